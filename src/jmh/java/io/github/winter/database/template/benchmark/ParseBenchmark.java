@@ -0,0 +1,86 @@
+package io.github.winter.database.template.benchmark;
+
+import io.github.winter.boot.filter.BaseFilter;
+import io.github.winter.boot.filter.Page;
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.Template;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import io.github.winter.database.template.parser.KeyParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL Building, {@link Template#parseSelect} And {@link Template#parseInsert}
+ * <p>
+ * batchSize is a param of {@link InsertState} only, so parseSelect runs once per column count.
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="ParseBenchmark -prof gc"
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int columnCount;
+
+    private Template template;
+
+    private TableSchema tableSchema;
+
+    private List<BaseFilter> filters;
+
+    private Page page;
+
+    @Setup
+    public void setUp() {
+        template = new Template(Fixtures.executor());
+        tableSchema = new SyntheticTableSchema("benchmark_table", columnCount);
+        filters = KeyParser.parseList(tableSchema, null);
+
+        page = new Page();
+        page.setOffset(0);
+        page.setLimit(20);
+    }
+
+    @Benchmark
+    public SqlParameter parseSelect() {
+        return template.parseSelect(tableSchema, filters, null, page);
+    }
+
+    @Benchmark
+    public String parseInsert(InsertState insertState) {
+        return template.parseInsert(tableSchema, insertState.batchSize);
+    }
+
+    /**
+     * Insert State
+     */
+    @State(Scope.Benchmark)
+    public static class InsertState {
+
+        @Param({"1", "10", "100", "1000"})
+        private int batchSize;
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.github.winter.database.template.benchmark;
+
+import io.github.winter.boot.filter.BaseFilter;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import io.github.winter.database.template.parser.KeyParser;
+import io.github.winter.database.template.parser.SetParser;
+import io.github.winter.database.template.value.DefaultValues;
+import io.github.winter.database.template.value.PlaceholderValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value Preparation, {@link DefaultValues}, {@link PlaceholderValues}, {@link SetParser} And {@link KeyParser}
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="ValueBenchmark -prof gc"
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int columnCount;
+
+    private TableSchema tableSchema;
+
+    private Map<String, Value> partialValues;
+
+    private List<String> placeholderNames;
+
+    private List<String> parameterNames;
+
+    private Map<String, Value> placeholderParameters;
+
+    private Map<String, Value> parameters;
+
+    private List<String> sets;
+
+    private List<String> setNames;
+
+    private Value keyValue;
+
+    @Setup
+    public void setUp() {
+        tableSchema = new SyntheticTableSchema("benchmark_table", columnCount);
+
+        List<String> columns = tableSchema.getColumnsOnInsert();
+        int half = columns.size() / 2;
+
+        partialValues = Fixtures.values(columns.subList(0, half));
+
+        placeholderNames = new ArrayList<>(columns.subList(0, half));
+        parameterNames = new ArrayList<>(columns.subList(half, columns.size()));
+        placeholderParameters = Fixtures.values(placeholderNames);
+        parameters = Fixtures.values(parameterNames);
+
+        sets = List.of("version = version + 1");
+        setNames = new ArrayList<>(columns);
+
+        keyValue = Fixtures.value();
+    }
+
+    @Benchmark
+    public Map<String, Value> setDefaultValuesOnInsert() {
+        return DefaultValues.setDefaultValuesOnInsert(tableSchema, partialValues);
+    }
+
+    @Benchmark
+    public List<String> concatNames() {
+        return PlaceholderValues.concatNames(placeholderNames, parameterNames);
+    }
+
+    @Benchmark
+    public Map<String, Value> concatParameters() {
+        return PlaceholderValues.concatParameters(placeholderParameters, parameters);
+    }
+
+    @Benchmark
+    public String joinSets() {
+        return SetParser.joinSets(sets, setNames);
+    }
+
+    @Benchmark
+    public List<BaseFilter> parseList() {
+        return KeyParser.parseList(tableSchema, keyValue, null);
+    }
+
+}
@@ -0,0 +1,271 @@
+package io.github.winter.database.template.load;
+
+import io.github.winter.boot.filter.Page;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.template.TableSchemaRegistry;
+import io.github.winter.database.template.Template;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import io.github.winter.database.template.metrics.HistogramSnapshot;
+import io.github.winter.database.template.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load Harness, Drives {@link Template} CRUD From Virtual Threads Against A {@link FakeExecutor}
+ * <p>
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark.main=io.github.winter.database.template.load.LoadHarness
+ * -Dbenchmark.args="--threads 2000 --seconds 30 --read-ratio 0.8 --shards 16 --batch-size 100"
+ * <p>
+ * Options, with defaults: --threads 1000, --seconds 30, --warmup-seconds 5, --read-ratio 0.8, --shards 16,
+ * --batch-size 100, --columns 20, --rows 20, --base-micros 500, --tail-micros 500.
+ *
+ * @author changebooks@qq.com
+ */
+public final class LoadHarness {
+    /**
+     * Table Name, Without Sharding Table Num
+     */
+    private static final String TABLE_NAME = "load_table";
+
+    /**
+     * Operation
+     */
+    enum Operation {
+        SELECT_ONE, SELECT_LIST, INSERT, BATCH_INSERT, UPDATE, DELETE
+    }
+
+    /**
+     * Options
+     */
+    record Options(int threads, int seconds, int warmupSeconds, double readRatio, int shards,
+                   int batchSize, int columns, int rows, long baseMicros, long tailMicros) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                if (!args[i].startsWith("--")) {
+                    throw new IllegalArgumentException("option must start with --, option: " + args[i]);
+                }
+
+                values.put(args[i].substring(2), args[i + 1]);
+            }
+
+            Options result = new Options(
+                    Integer.parseInt(values.getOrDefault("threads", "1000")),
+                    Integer.parseInt(values.getOrDefault("seconds", "30")),
+                    Integer.parseInt(values.getOrDefault("warmup-seconds", "5")),
+                    Double.parseDouble(values.getOrDefault("read-ratio", "0.8")),
+                    Integer.parseInt(values.getOrDefault("shards", "16")),
+                    Integer.parseInt(values.getOrDefault("batch-size", "100")),
+                    Integer.parseInt(values.getOrDefault("columns", "20")),
+                    Integer.parseInt(values.getOrDefault("rows", "20")),
+                    Long.parseLong(values.getOrDefault("base-micros", "500")),
+                    Long.parseLong(values.getOrDefault("tail-micros", "500")));
+
+            if (result.threads <= 0 || result.seconds <= 0 || result.shards <= 0 || result.batchSize <= 0) {
+                throw new IllegalArgumentException("threads, seconds, shards and batch-size must be greater than 0, options: " + result);
+            }
+
+            if (result.readRatio < 0.0 || result.readRatio > 1.0) {
+                throw new IllegalArgumentException("read-ratio must be in [0.0, 1.0], readRatio: " + result.readRatio);
+            }
+
+            return result;
+        }
+
+    }
+
+    private final Options options;
+
+    private final Template template;
+
+    private final FakeExecutor fakeExecutor;
+
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private final AtomicBoolean firstError = new AtomicBoolean();
+
+    private final Value keyValue = Fixtures.value();
+
+    private final Map<String, Value> row;
+
+    private final List<Map<String, Value>> batch;
+
+    private final Map<String, Value> setValues;
+
+    private final Page page = new Page();
+
+    private volatile boolean recording;
+
+    LoadHarness(Options options) {
+        SyntheticTableSchema tableSchema = new SyntheticTableSchema(TABLE_NAME, options.columns());
+
+        this.options = options;
+        this.fakeExecutor = new FakeExecutor(options.baseMicros() * 1_000, options.tailMicros() * 1_000,
+                tableSchema.getColumnNames(), options.rows());
+        this.template = new Template(fakeExecutor.toExecutor());
+
+        for (int i = 0; i < options.shards(); i++) {
+            TableSchemaRegistry.put(template.joinTableName(TABLE_NAME, i), tableSchema);
+        }
+
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+
+        List<String> columns = tableSchema.getColumnsOnInsert();
+        this.row = Collections.unmodifiableMap(Fixtures.values(columns));
+        this.batch = Collections.nCopies(options.batchSize(), row);
+        this.setValues = Collections.unmodifiableMap(Fixtures.values(columns.subList(0, Math.min(3, columns.size()))));
+
+        page.setOffset(0);
+        page.setLimit(options.rows());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        System.out.println("options: " + options);
+
+        new LoadHarness(options).run();
+    }
+
+    void run() throws InterruptedException {
+        long warmupNanos = Duration.ofSeconds(options.warmupSeconds()).toNanos();
+        long measureNanos = Duration.ofSeconds(options.seconds()).toNanos();
+
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + warmupNanos;
+        long endNanos = measureStartNanos + measureNanos;
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.threads(); i++) {
+                executorService.submit(() -> work(endNanos));
+            }
+
+            Thread.sleep(Duration.ofNanos(Math.max(0, measureStartNanos - System.nanoTime())));
+            for (Operation operation : Operation.values()) {
+                histograms.get(operation).reset();
+                errors.get(operation).reset();
+            }
+
+            recording = true;
+            long calls = fakeExecutor.getCallCount();
+
+            Thread.sleep(Duration.ofNanos(Math.max(0, endNanos - System.nanoTime())));
+            recording = false;
+
+            report(Duration.ofNanos(measureNanos), fakeExecutor.getCallCount() - calls);
+        }
+    }
+
+    /**
+     * Work, Until endNanos
+     *
+     * @param endNanos End Nanos
+     */
+    private void work(long endNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() - endNanos < 0) {
+            Operation operation = choose(random);
+            Integer tableNum = random.nextInt(options.shards());
+
+            long startNanos = System.nanoTime();
+            try {
+                call(operation, tableNum);
+            } catch (Throwable ex) {
+                errors.get(operation).increment();
+                if (firstError.compareAndSet(false, true)) {
+                    ex.printStackTrace(System.err);
+                }
+            }
+
+            if (recording) {
+                histograms.get(operation).record(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Choose, Reads Split Between SELECT ONE And SELECT LIST, Writes Between The Four Writes
+     *
+     * @param random the {@link ThreadLocalRandom} instance
+     * @return the {@link Operation} instance
+     */
+    private Operation choose(ThreadLocalRandom random) {
+        if (random.nextDouble() < options.readRatio()) {
+            return random.nextBoolean() ? Operation.SELECT_ONE : Operation.SELECT_LIST;
+        }
+
+        return switch (random.nextInt(4)) {
+            case 0 -> Operation.INSERT;
+            case 1 -> Operation.BATCH_INSERT;
+            case 2 -> Operation.UPDATE;
+            default -> Operation.DELETE;
+        };
+    }
+
+    /**
+     * Call
+     *
+     * @param operation the {@link Operation} instance
+     * @param tableNum  Sharding Table Num
+     */
+    private void call(Operation operation, Integer tableNum) {
+        switch (operation) {
+            case SELECT_ONE -> template.selectOne(TABLE_NAME, keyValue, null, tableNum);
+            case SELECT_LIST -> template.selectList(TABLE_NAME, null, null, page, tableNum);
+            case INSERT -> template.insert(TABLE_NAME, row, tableNum);
+            case BATCH_INSERT -> template.batchInsert(TABLE_NAME, batch, tableNum);
+            case UPDATE -> template.update(TABLE_NAME, keyValue, null, setValues, null, tableNum);
+            case DELETE -> template.delete(TABLE_NAME, keyValue, null, tableNum);
+        }
+    }
+
+    /**
+     * Report, Throughput And Latency Percentiles Per Operation, Micros
+     *
+     * @param elapsed   Measured
+     * @param callCount Executor Calls While Measured
+     */
+    private void report(Duration elapsed, long callCount) {
+        double seconds = elapsed.toNanos() / 1e9;
+
+        System.out.printf("%-13s %10s %12s %10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "ops/s", "mean", "p50", "p90", "p99", "p99.9", "max", "errors");
+
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            HistogramSnapshot snapshot = histograms.get(operation).snapshot();
+            total += snapshot.getCount();
+
+            System.out.printf("%-13s %10d %12.1f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %8d%n",
+                    operation, snapshot.getCount(), snapshot.getCount() / seconds,
+                    snapshot.getMean() / 1e3,
+                    snapshot.getValueAtPercentile(50.0) / 1e3,
+                    snapshot.getValueAtPercentile(90.0) / 1e3,
+                    snapshot.getValueAtPercentile(99.0) / 1e3,
+                    snapshot.getValueAtPercentile(99.9) / 1e3,
+                    snapshot.getMax() / 1e3,
+                    errors.get(operation).sum());
+        }
+
+        System.out.printf("total: %d ops, %.1f ops/s, executor calls: %d, latency in micros%n", total, total / seconds, callCount);
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.github.winter.database.template;
+
+/**
+ * SELECT COUNT, Exact Or Estimated
+ *
+ * @author changebooks@qq.com
+ */
+public final class CountResult {
+    /**
+     * AGGREGATE
+     */
+    private final long count;
+
+    /**
+     * COUNT(*) ? true : Estimated By Table Statistics
+     */
+    private final boolean exact;
+
+    public CountResult(long count, boolean exact) {
+        this.count = count;
+        this.exact = exact;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    @Override
+    public String toString() {
+        return "CountResult{count=" + count + ", exact=" + exact + "}";
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.database.executor.Executor;
+
+/**
+ * One {@link Executor} Invocation
+ *
+ * @param <T> Result Type
+ * @author changebooks@qq.com
+ */
+@FunctionalInterface
+public interface ExecutorCall<T> {
+    /**
+     * Call
+     *
+     * @param executor     the {@link Executor} instance
+     * @param sqlParameter the {@link SqlParameter} instance
+     * @return Result
+     */
+    T call(Executor executor, SqlParameter sqlParameter);
+
+}
@@ -0,0 +1,87 @@
+package io.github.winter.database.template;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operation Recorder, Collects The Statements Of One Public Call Into One {@link TemplateOperation}
+ * <p>
+ * Statements may be added from another thread, e.g. the count of selectPage,
+ * those finishing after the call are not listed.
+ *
+ * @author changebooks@qq.com
+ */
+final class OperationRecorder {
+    /**
+     * the {@link OperationType} instance
+     */
+    private final OperationType type;
+
+    /**
+     * Table Name, Without Sharding Table Num
+     */
+    private final String tableName;
+
+    /**
+     * Sharding Table Num
+     */
+    private final Integer tableNum;
+
+    /**
+     * Table Name, With Sharding Table Num
+     */
+    private final String joinedTableName;
+
+    /**
+     * Started At, {@link System#nanoTime()}
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * [ the {@link TemplateStatement} instance ], guarded by this
+     */
+    private final List<TemplateStatement> statements = new ArrayList<>();
+
+    /**
+     * Finished ?, guarded by this
+     */
+    private boolean finished;
+
+    OperationRecorder(@NotNull OperationType type, @NotNull String tableName, @Nullable Integer tableNum, @NotNull String joinedTableName) {
+        this.type = type;
+        this.tableName = tableName;
+        this.tableNum = tableNum;
+        this.joinedTableName = joinedTableName;
+    }
+
+    /**
+     * Add, Ignored Once Finished
+     *
+     * @param statement the {@link TemplateStatement} instance
+     */
+    synchronized void add(@NotNull TemplateStatement statement) {
+        if (!finished) {
+            statements.add(statement);
+        }
+    }
+
+    /**
+     * Finish
+     *
+     * @param result    Result Of The Call, null if failed
+     * @param throwable Throwable Of The Call, null if succeeded
+     * @return the {@link TemplateOperation} instance
+     */
+    @NotNull
+    synchronized TemplateOperation finish(@Nullable Object result, @Nullable Throwable throwable) {
+        finished = true;
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return new TemplateOperation(type, tableName, tableNum, joinedTableName,
+                statements, TemplateOperation.rowCountOf(result), throwable, startNanos, elapsedNanos);
+    }
+
+}
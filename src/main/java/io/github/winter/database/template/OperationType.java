@@ -0,0 +1,77 @@
+package io.github.winter.database.template;
+
+/**
+ * Template Operation Type
+ *
+ * @author changebooks@qq.com
+ */
+public enum OperationType {
+    /**
+     * SELECT LIST
+     */
+    SELECT_LIST(true),
+
+    /**
+     * SELECT COUNT, And Table Statistics
+     */
+    SELECT_COUNT(true),
+
+    /**
+     * SELECT PAGE, SELECT LIST And SELECT COUNT, Of A {@link TemplateOperation} Only, Never Executed As One Statement
+     */
+    SELECT_PAGE(true),
+
+    /**
+     * SELECT ONE
+     */
+    SELECT_ONE(true),
+
+    /**
+     * CHECK EXIST
+     */
+    CHECK_EXIST(true),
+
+    /**
+     * CHECK EXIST ALL
+     */
+    CHECK_EXIST_ALL(true),
+
+    /**
+     * INSERT
+     */
+    INSERT(false),
+
+    /**
+     * BATCH INSERT
+     */
+    BATCH_INSERT(false),
+
+    /**
+     * UPDATE
+     */
+    UPDATE(false),
+
+    /**
+     * BATCH UPDATE
+     */
+    BATCH_UPDATE(false),
+
+    /**
+     * DELETE
+     */
+    DELETE(false);
+
+    /**
+     * Read Only ?
+     */
+    private final boolean read;
+
+    OperationType(boolean read) {
+        this.read = read;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.template.value.KeyValues;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存分页总数
+ *
+ * @author changebooks@qq.com
+ */
+public final class PageCountCache {
+    /**
+     * Default Max Entries
+     */
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * [ Table Name + SQL + Parameters : Cached Total ]
+     */
+    private final Map<String, Entry> data = new ConcurrentHashMap<>();
+
+    /**
+     * Fresh Nanos
+     */
+    private final long ttlNanos;
+
+    /**
+     * Max Entries
+     */
+    private final int maxSize;
+
+    public PageCountCache(@NotNull Duration ttl) {
+        this(ttl, DEFAULT_MAX_SIZE);
+    }
+
+    public PageCountCache(@NotNull Duration ttl, int maxSize) {
+        Preconditions.requireNonNull(ttl, "ttl must not be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be greater than 0, ttl: " + ttl);
+        }
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0, maxSize: " + maxSize);
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get Fresh Total
+     *
+     * @param key Cache Key
+     * @return Cached Total, null if absent or expired
+     */
+    @Nullable
+    public Long get(@NotNull String key) {
+        Entry entry = data.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - entry.createdNanos > ttlNanos) {
+            data.remove(key, entry);
+            return null;
+        }
+
+        return entry.total;
+    }
+
+    /**
+     * Put Total
+     *
+     * @param key   Cache Key
+     * @param total AGGREGATE
+     */
+    public void put(@NotNull String key, long total) {
+        if (data.size() >= maxSize) {
+            evict();
+        }
+
+        data.put(key, new Entry(total, System.nanoTime()));
+    }
+
+    /**
+     * Remove All
+     */
+    public void clear() {
+        data.clear();
+    }
+
+    /**
+     * Cache Key
+     *
+     * @param tableName    FROM table
+     * @param sqlParameter the {@link SqlParameter} instance of SELECT COUNT
+     * @return Table Name + SQL + Parameters
+     */
+    @NotNull
+    public static String keyOf(@NotNull String tableName, @NotNull SqlParameter sqlParameter) {
+        StringBuilder result = new StringBuilder(tableName).append('\n').append(sqlParameter.getSql());
+
+        List<String> parameterNames = sqlParameter.getParameterNames();
+        Map<String, Value> parameters = sqlParameter.getParameters();
+        if (parameterNames != null && parameters != null) {
+            for (String parameterName : parameterNames) {
+                result.append('\n').append(parameterName).append('=').append(KeyValues.keyOf(parameters.get(parameterName)));
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Remove Expired, Remove All If Still Full
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        data.values().removeIf(entry -> now - entry.createdNanos > ttlNanos);
+
+        if (data.size() >= maxSize) {
+            data.clear();
+        }
+    }
+
+    /**
+     * Cached Total
+     *
+     * @param total        AGGREGATE
+     * @param createdNanos Created At
+     */
+    private record Entry(long total, long createdNanos) {
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.tuple.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SELECT PAGE, Rows And Total
+ *
+ * @author changebooks@qq.com
+ */
+public final class PageResult {
+    /**
+     * [ [ Column Name : Column Value ] ]
+     */
+    private final List<Map<String, Value>> list;
+
+    /**
+     * AGGREGATE
+     */
+    private final long total;
+
+    public PageResult(List<Map<String, Value>> list, long total) {
+        this.list = list;
+        this.total = total;
+    }
+
+    public List<Map<String, Value>> getList() {
+        return list;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+}
@@ -0,0 +1,150 @@
+package io.github.winter.database.template;
+
+import io.github.winter.database.table.TableSchema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry Snapshot, Immutable, One Consistent View of the {@link TableSchemaRegistry}
+ * <p>
+ * Every change publishes a new snapshot with the next version, compare versions to invalidate caches.
+ * <p>
+ * A single put only copies a small delta over the shared base, the delta is folded into a new base
+ * once it grows past the square root of the base, so warming up N tables one by one copies O(N * sqrt(N)) entries.
+ *
+ * @author changebooks@qq.com
+ */
+public final class RegistrySnapshot {
+    /**
+     * Version 0, Empty
+     */
+    static final RegistrySnapshot EMPTY = new RegistrySnapshot(0, Collections.emptyMap());
+
+    /**
+     * Version
+     */
+    private final long version;
+
+    /**
+     * Delta Folded Into The Base At Least Once It Reaches
+     */
+    private static final int MIN_DELTA = 16;
+
+    /**
+     * [ Table Name : the {@link TableSchema} instance ], Base, Shared By Snapshots Of Single Puts
+     */
+    private final Map<String, TableSchema> base;
+
+    /**
+     * [ Table Name : the {@link TableSchema} instance ], Put Over The Base
+     */
+    private final Map<String, TableSchema> delta;
+
+    /**
+     * Tables
+     */
+    private final int size;
+
+    /**
+     * [ Table Name : the {@link TableSchema} instance ], Unmodifiable, Base And Delta Merged On First Use
+     */
+    private volatile Map<String, TableSchema> tableSchemas;
+
+    RegistrySnapshot(long version, @NotNull Map<String, TableSchema> tableSchemas) {
+        this(version, Collections.unmodifiableMap(tableSchemas), Collections.emptyMap(), tableSchemas.size());
+    }
+
+    private RegistrySnapshot(long version, Map<String, TableSchema> base, Map<String, TableSchema> delta, int size) {
+        this.version = version;
+        this.base = base;
+        this.delta = delta;
+        this.size = size;
+        this.tableSchemas = delta.isEmpty() ? base : null;
+    }
+
+    /**
+     * Put, The Next Version, Copies The Delta Only Until It Is Folded Into The Base
+     *
+     * @param tableName   Table Name
+     * @param tableSchema the {@link TableSchema} instance
+     * @return the {@link RegistrySnapshot} instance
+     */
+    @NotNull
+    RegistrySnapshot with(@NotNull String tableName, @NotNull TableSchema tableSchema) {
+        int nextSize = contains(tableName) ? size : size + 1;
+
+        if (delta.size() + 1 >= Math.max(MIN_DELTA, (int) Math.sqrt(base.size()))) {
+            Map<String, TableSchema> result = new HashMap<>(getTableSchemas());
+            result.put(tableName, tableSchema);
+            return new RegistrySnapshot(version + 1, result);
+        }
+
+        Map<String, TableSchema> result = HashMap.newHashMap(delta.size() + 1);
+        result.putAll(delta);
+        result.put(tableName, tableSchema);
+        return new RegistrySnapshot(version + 1, base, result, nextSize);
+    }
+
+    /**
+     * Get Schema
+     *
+     * @param tableName Table Name
+     * @return the {@link TableSchema} instance, null if absent
+     */
+    public TableSchema get(String tableName) {
+        if (tableName == null) {
+            return null;
+        }
+
+        TableSchema result = delta.get(tableName);
+        return result != null ? result : base.get(tableName);
+    }
+
+    /**
+     * Contains Schema ?
+     *
+     * @param tableName Table Name
+     * @return contains ? true : false
+     */
+    public boolean contains(String tableName) {
+        return tableName != null && (delta.containsKey(tableName) || base.containsKey(tableName));
+    }
+
+    @NotNull
+    public Set<String> getTableNames() {
+        return getTableSchemas().keySet();
+    }
+
+    @NotNull
+    public Map<String, TableSchema> getTableSchemas() {
+        Map<String, TableSchema> result = tableSchemas;
+        if (result == null) {
+            Map<String, TableSchema> merged = HashMap.newHashMap(size);
+            merged.putAll(base);
+            merged.putAll(delta);
+
+            result = Collections.unmodifiableMap(merged);
+            tableSchemas = result;
+        }
+
+        return result;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "RegistrySnapshot{version=" + version + ", size=" + size + "}";
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.github.winter.database.template;
+
+/**
+ * Routing Interceptor, Sets The Executor Of The Calls It Routes
+ * <p>
+ * At most one per {@link Template}, a second one would silently override the first,
+ * e.g. read/write splitting of sharded tables goes into the shard ranges, not next to them.
+ *
+ * @author changebooks@qq.com
+ */
+public interface RoutingInterceptor extends TemplateInterceptor {
+}
@@ -0,0 +1,129 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table Schema Alias, Of One Shard
+ * <p>
+ * Answers the physical table name of the shard, shares every other field with the canonical {@link TableSchema}.
+ *
+ * @author changebooks@qq.com
+ */
+final class TableSchemaAlias extends TableSchema {
+
+    private final String tableName;
+
+    /**
+     * the {@link TableSchema} instance, Canonical, null if detached
+     */
+    private final TableSchema canonical;
+
+    private final String idName;
+
+    private final List<String> columnNames;
+
+    private final Map<String, Class<?>> valueTypes;
+
+    private final List<String> columnsOnInsert;
+
+    private final Set<String> columnsOnUpdate;
+
+    private final String joinedColumnsOnSelect;
+
+    private final String joinedColumnsOnInsert;
+
+    private final String joinedValuesOnInsert;
+
+    private final Map<String, Value> defaultValues;
+
+    TableSchemaAlias(@NotNull String tableName, @NotNull TableSchema canonical) {
+        this(tableName, canonical, canonical);
+    }
+
+    private TableSchemaAlias(String tableName, TableSchema source, TableSchema canonical) {
+        this.tableName = tableName;
+        this.canonical = canonical;
+        this.idName = source.getIdName();
+        this.columnNames = source.getColumnNames();
+        this.valueTypes = source.getValueTypes();
+        this.columnsOnInsert = source.getColumnsOnInsert();
+        this.columnsOnUpdate = source.getColumnsOnUpdate();
+        this.joinedColumnsOnSelect = source.getJoinedColumnsOnSelect();
+        this.joinedColumnsOnInsert = source.getJoinedColumnsOnInsert();
+        this.joinedValuesOnInsert = source.getJoinedValuesOnInsert();
+        this.defaultValues = source.getDefaultValues();
+    }
+
+    /**
+     * Detach From The Canonical, The Fields Are Kept
+     *
+     * @return the {@link TableSchemaAlias} instance, not an alias of any canonical
+     */
+    @NotNull
+    TableSchemaAlias detach() {
+        return canonical != null ? new TableSchemaAlias(tableName, this, null) : this;
+    }
+
+    @Nullable
+    TableSchema getCanonical() {
+        return canonical;
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public String getIdName() {
+        return idName;
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public Map<String, Class<?>> getValueTypes() {
+        return valueTypes;
+    }
+
+    @Override
+    public List<String> getColumnsOnInsert() {
+        return columnsOnInsert;
+    }
+
+    @Override
+    public Set<String> getColumnsOnUpdate() {
+        return columnsOnUpdate;
+    }
+
+    @Override
+    public String getJoinedColumnsOnSelect() {
+        return joinedColumnsOnSelect;
+    }
+
+    @Override
+    public String getJoinedColumnsOnInsert() {
+        return joinedColumnsOnInsert;
+    }
+
+    @Override
+    public String getJoinedValuesOnInsert() {
+        return joinedValuesOnInsert;
+    }
+
+    @Override
+    public Map<String, Value> getDefaultValues() {
+        return defaultValues;
+    }
+
+}
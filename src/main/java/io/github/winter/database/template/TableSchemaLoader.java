@@ -0,0 +1,21 @@
+package io.github.winter.database.template;
+
+import io.github.winter.database.table.TableSchema;
+
+/**
+ * Table Schema Loader, called by the {@link Template} on a {@link TableSchemaRegistry} miss
+ *
+ * @author changebooks@qq.com
+ */
+@FunctionalInterface
+public interface TableSchemaLoader {
+    /**
+     * Load, And Put Into The {@link TableSchemaRegistry}
+     *
+     * @param tableName Table Name, With Sharding Table Num
+     * @return the {@link TableSchema} instance, null if no such table
+     * @throws RuntimeException if the read failed, not to be taken for no such table
+     */
+    TableSchema load(String tableName);
+
+}
@@ -1,35 +1,87 @@
 package io.github.winter.database.template;
 
 import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.boot.tuple.Value;
 import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.value.KeyValues;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * 寄存表概要
+ * <p>
+ * With canonical sharing on, structurally identical schemas of one shard family, e.g. orders_0 ... orders_1023,
+ * are stored once: every other shard gets a light alias that answers its own table name
+ * and shares the columns of the canonical {@link TableSchema}.
+ * <p>
+ * Readers get an immutable {@link RegistrySnapshot}, writers build a new one and publish it with one volatile write,
+ * a single put copies a small delta only.
  *
  * @author changebooks@qq.com
  */
 public final class TableSchemaRegistry {
     /**
-     * [ Table Name : the {@link TableSchema} instance ]
+     * the {@link RegistrySnapshot} instance, Replaced As A Whole On Every Change
      */
-    private static final Map<String, TableSchema> DATA = new ConcurrentHashMap<>();
+    private static volatile RegistrySnapshot snapshot = RegistrySnapshot.EMPTY;
+
+    /**
+     * [ Family And Shape : the {@link TableSchema} instance ], Canonical
+     */
+    private static final Map<String, TableSchema> CANONICALS = new ConcurrentHashMap<>();
+
+    /**
+     * Shard Suffix, _0 ... _1023
+     */
+    private static final Pattern SHARD_SUFFIX = Pattern.compile("_\\d+$");
+
+    /**
+     * Share One Canonical Schema Across Identical Shard Tables ?
+     */
+    private static volatile boolean canonicalSharing;
 
     private TableSchemaRegistry() {
     }
 
+    /**
+     * Get Snapshot, Lock-Free, Consistent
+     *
+     * @return the {@link RegistrySnapshot} instance
+     */
+    @NotNull
+    public static RegistrySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Get Version
+     *
+     * @return Version of the current {@link RegistrySnapshot}
+     */
+    public static long getVersion() {
+        return snapshot.getVersion();
+    }
+
     /**
      * Get Table Name
      *
-     * @return [ Table Name ]
+     * @return [ Table Name ], of the current {@link RegistrySnapshot}
      */
     @NotNull
     public static Set<String> getTableNames() {
-        return DATA.keySet();
+        return snapshot.getTableNames();
     }
 
     /**
@@ -39,11 +91,7 @@ public final class TableSchemaRegistry {
      * @return the {@link TableSchema} instance
      */
     public static TableSchema get(String tableName) {
-        if (tableName != null) {
-            return DATA.get(tableName);
-        } else {
-            return null;
-        }
+        return snapshot.get(tableName);
     }
 
     /**
@@ -56,7 +104,7 @@ public final class TableSchemaRegistry {
         Preconditions.requireNonNull(tableSchema, "tableSchema must not be null");
 
         String tableName = tableSchema.getTableName();
-        return DATA.put(tableName, tableSchema);
+        return put(tableName, tableSchema);
     }
 
     /**
@@ -66,10 +114,61 @@ public final class TableSchemaRegistry {
      * @param tableSchema the {@link TableSchema} instance
      * @return previous {@link TableSchema} instance
      */
-    public static TableSchema put(String tableName, TableSchema tableSchema) {
+    public static synchronized TableSchema put(String tableName, TableSchema tableSchema) {
         Preconditions.requireNonNull(tableName, "tableName must not be null");
         Preconditions.requireNonNull(tableSchema, "tableSchema must not be null, tableName: " + tableName);
-        return DATA.put(tableName, tableSchema);
+
+        TableSchema result = snapshot.get(tableName);
+        snapshot = snapshot.with(tableName, canonicalize(tableName, tableSchema));
+
+        return result;
+    }
+
+    /**
+     * Put Schemas, One Publish
+     *
+     * @param tableSchemas [ Table Name : the {@link TableSchema} instance ]
+     */
+    public static synchronized void putAll(@NotNull Map<String, TableSchema> tableSchemas) {
+        if (tableSchemas.isEmpty()) {
+            return;
+        }
+
+        Map<String, TableSchema> result = new HashMap<>(snapshot.getTableSchemas());
+        putAll(result, tableSchemas);
+
+        publish(result);
+        if (canonicalSharing) {
+            pruneCanonicals();
+        }
+    }
+
+    /**
+     * Replace, One Publish: Keep tableNames Only, Then Put tableSchemas
+     *
+     * @param tableNames   [ Table Name ], of the database, others removed
+     * @param tableSchemas [ Table Name : the {@link TableSchema} instance ], read or reread
+     * @return Tables Removed
+     */
+    public static synchronized int replaceAll(@NotNull Set<String> tableNames, @NotNull Map<String, TableSchema> tableSchemas) {
+        Map<String, TableSchema> current = snapshot.getTableSchemas();
+        Map<String, TableSchema> result = HashMap.newHashMap(tableNames.size());
+
+        for (Map.Entry<String, TableSchema> entry : current.entrySet()) {
+            if (tableNames.contains(entry.getKey())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        int removed = current.size() - result.size();
+        putAll(result, tableSchemas);
+
+        publish(result);
+        if (removed > 0 || canonicalSharing) {
+            pruneCanonicals();
+        }
+
+        return removed;
     }
 
     /**
@@ -78,9 +177,38 @@ public final class TableSchemaRegistry {
      * @param tableName Table Name
      * @return previous {@link TableSchema} instance
      */
-    public static TableSchema remove(String tableName) {
+    public static synchronized TableSchema remove(String tableName) {
         Preconditions.requireNonNull(tableName, "tableName must not be null");
-        return DATA.remove(tableName);
+        if (!snapshot.contains(tableName)) {
+            return null;
+        }
+
+        Map<String, TableSchema> tableSchemas = new HashMap<>(snapshot.getTableSchemas());
+        TableSchema result = tableSchemas.remove(tableName);
+
+        publish(tableSchemas);
+        return result;
+    }
+
+    /**
+     * Remove Schemas, One Publish
+     *
+     * @param tableNames [ Table Name ]
+     * @return Tables Removed
+     */
+    public static synchronized int removeAll(@NotNull Collection<String> tableNames) {
+        Map<String, TableSchema> tableSchemas = new HashMap<>(snapshot.getTableSchemas());
+        int size = tableSchemas.size();
+
+        tableSchemas.keySet().removeAll(tableNames);
+        int removed = size - tableSchemas.size();
+        if (removed == 0) {
+            return 0;
+        }
+
+        publish(tableSchemas);
+        pruneCanonicals();
+        return removed;
     }
 
     /**
@@ -90,11 +218,183 @@ public final class TableSchemaRegistry {
      * @return contains ? true : false
      */
     public static boolean contains(String tableName) {
-        if (tableName != null) {
-            return DATA.containsKey(tableName);
-        } else {
-            return false;
+        return snapshot.contains(tableName);
+    }
+
+    /**
+     * Canonical Schemas Stored
+     *
+     * @return Num, Without Sharing ? 0
+     */
+    public static int getCanonicalCount() {
+        return CANONICALS.size();
+    }
+
+    /**
+     * Canonical Schema
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @return the canonical {@link TableSchema} instance of an alias, or tableSchema
+     */
+    @NotNull
+    public static TableSchema canonicalOf(@NotNull TableSchema tableSchema) {
+        if (tableSchema instanceof TableSchemaAlias alias && alias.getCanonical() != null) {
+            return alias.getCanonical();
         }
+
+        return tableSchema;
+    }
+
+    /**
+     * Forget Canonical Schemas No Table Refers To, Run After Every Bulk Publish While Sharing
+     */
+    public static void pruneCanonicals() {
+        Set<TableSchema> referred = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TableSchema tableSchema : snapshot.getTableSchemas().values()) {
+            referred.add(tableSchema instanceof TableSchemaAlias alias ? alias.getCanonical() : tableSchema);
+        }
+
+        CANONICALS.values().removeIf(Predicate.not(referred::contains));
+    }
+
+    /**
+     * Canonical Sharing On ?
+     *
+     * @return canonicalSharing
+     */
+    public static boolean isCanonicalSharing() {
+        return canonicalSharing;
+    }
+
+    /**
+     * Canonical Sharing On Or Off, On applies to schemas put afterwards, Off also detaches the aliases stored
+     *
+     * @param canonicalSharing Share One Canonical Schema Across Identical Shard Tables ?
+     */
+    public static synchronized void setCanonicalSharing(boolean canonicalSharing) {
+        TableSchemaRegistry.canonicalSharing = canonicalSharing;
+        if (canonicalSharing) {
+            return;
+        }
+
+        CANONICALS.clear();
+
+        Map<String, TableSchema> current = snapshot.getTableSchemas();
+        Map<String, TableSchema> result = null;
+        for (Map.Entry<String, TableSchema> entry : current.entrySet()) {
+            if (entry.getValue() instanceof TableSchemaAlias alias && alias.getCanonical() != null) {
+                if (result == null) {
+                    result = new HashMap<>(current);
+                }
+
+                result.put(entry.getKey(), alias.detach());
+            }
+        }
+
+        if (result != null) {
+            publish(result);
+        }
+    }
+
+    /**
+     * Put Canonicalized
+     *
+     * @param result       [ Table Name : the {@link TableSchema} instance ], to put into
+     * @param tableSchemas [ Table Name : the {@link TableSchema} instance ]
+     */
+    private static void putAll(Map<String, TableSchema> result, Map<String, TableSchema> tableSchemas) {
+        for (Map.Entry<String, TableSchema> entry : tableSchemas.entrySet()) {
+            String tableName = entry.getKey();
+            TableSchema tableSchema = entry.getValue();
+            if (tableName != null && tableSchema != null) {
+                result.put(tableName, canonicalize(tableName, tableSchema));
+            }
+        }
+    }
+
+    /**
+     * Publish, The Next Version
+     *
+     * @param tableSchemas [ Table Name : the {@link TableSchema} instance ], not shared afterwards
+     */
+    private static void publish(Map<String, TableSchema> tableSchemas) {
+        snapshot = new RegistrySnapshot(snapshot.getVersion() + 1, tableSchemas);
+    }
+
+    /**
+     * Canonicalize
+     *
+     * @param tableName   Table Name
+     * @param tableSchema the {@link TableSchema} instance
+     * @return the canonical {@link TableSchema} instance of the family and shape, an alias of it if named otherwise, or tableSchema
+     */
+    @NotNull
+    static TableSchema canonicalize(@NotNull String tableName, @NotNull TableSchema tableSchema) {
+        if (!canonicalSharing) {
+            return tableSchema;
+        }
+
+        TableSchema source = tableSchema;
+        if (tableSchema instanceof TableSchemaAlias alias && alias.getCanonical() != null) {
+            source = alias.getCanonical();
+        }
+
+        TableSchema first = source;
+        String key = familyOf(tableName) + '\n' + shapeOf(source);
+        TableSchema canonical = CANONICALS.computeIfAbsent(key, x -> first);
+
+        return Objects.equals(canonical.getTableName(), tableName) ? canonical : new TableSchemaAlias(tableName, canonical);
+    }
+
+    /**
+     * Shard Family
+     *
+     * @param tableName Table Name, orders_12
+     * @return orders
+     */
+    @NotNull
+    static String familyOf(@NotNull String tableName) {
+        return SHARD_SUFFIX.matcher(tableName).replaceFirst("");
+    }
+
+    /**
+     * Shape, Everything But The Table Name
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @return Shape Key
+     */
+    @NotNull
+    static String shapeOf(@NotNull TableSchema tableSchema) {
+        StringBuilder result = new StringBuilder(256);
+        result.append(tableSchema.getIdName()).append('|');
+
+        List<String> columnNames = tableSchema.getColumnNames();
+        Map<String, Class<?>> valueTypes = tableSchema.getValueTypes();
+        if (columnNames != null) {
+            for (String columnName : columnNames) {
+                Class<?> valueType = valueTypes != null ? valueTypes.get(columnName) : null;
+                result.append(columnName).append(':').append(valueType != null ? valueType.getName() : null).append(',');
+            }
+        }
+
+        result.append('|').append(tableSchema.getColumnsOnInsert());
+
+        Set<String> columnsOnUpdate = tableSchema.getColumnsOnUpdate();
+        result.append('|').append(columnsOnUpdate != null ? new TreeSet<>(columnsOnUpdate) : null);
+
+        result.append('|').append(tableSchema.getJoinedColumnsOnSelect())
+                .append('|').append(tableSchema.getJoinedColumnsOnInsert())
+                .append('|').append(tableSchema.getJoinedValuesOnInsert())
+                .append('|');
+
+        Map<String, Value> defaultValues = tableSchema.getDefaultValues();
+        if (defaultValues != null) {
+            for (String columnName : new TreeSet<>(defaultValues.keySet())) {
+                result.append(columnName).append('=').append(KeyValues.keyOf(defaultValues.get(columnName))).append(',');
+            }
+        }
+
+        return result.toString();
     }
 
 }
@@ -10,16 +10,31 @@ import io.github.winter.boot.sql.parser.SqlParserImpl;
 import io.github.winter.boot.tuple.Value;
 import io.github.winter.database.executor.Executor;
 import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.deadline.Deadline;
+import io.github.winter.database.template.parser.InParser;
 import io.github.winter.database.template.parser.KeyParser;
+import io.github.winter.database.template.parser.Projection;
+import io.github.winter.database.template.parser.ProjectionParser;
 import io.github.winter.database.template.parser.SetParser;
 import io.github.winter.database.template.value.DefaultValues;
+import io.github.winter.database.template.value.KeyValues;
 import io.github.winter.database.template.value.PlaceholderValues;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 
 /**
  * Template
@@ -32,6 +47,62 @@ public class Template {
      */
     private static final String AGGREGATE = "COUNT(*) AS aggregate";
 
+    /**
+     * Table Statistics, Estimated Rows
+     */
+    private static final String TABLE_ROWS = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    /**
+     * Parameter Name Of TABLE_NAME, On TABLE_ROWS
+     */
+    private static final String TABLE_ROWS_PARAMETER = "TABLE_NAME";
+
+    /**
+     * Query Plan, Estimated Rows
+     */
+    private static final String EXPLAIN = "EXPLAIN ";
+
+    /**
+     * EXPLAIN Column, Estimated Rows Examined
+     */
+    private static final String EXPLAIN_ROWS = "rows";
+
+    /**
+     * EXPLAIN Column, Percent Of Examined Rows Left By The Conditions
+     */
+    private static final String EXPLAIN_FILTERED = "filtered";
+
+    /**
+     * EXPLAIN Column, Access Type
+     */
+    private static final String EXPLAIN_TYPE = "type";
+
+    /**
+     * [ EXPLAIN Column ]
+     */
+    private static final List<String> EXPLAIN_COLUMN_NAMES = List.of(EXPLAIN_TYPE, EXPLAIN_ROWS, EXPLAIN_FILTERED);
+
+    /**
+     * [ EXPLAIN Column : Value Type ]
+     */
+    private static final Map<String, Class<?>> EXPLAIN_VALUE_TYPES = Map.of(
+            EXPLAIN_TYPE, String.class, EXPLAIN_ROWS, Long.class, EXPLAIN_FILTERED, Double.class);
+
+    /**
+     * [ Access Type ], Not Bounded By An Index, Every Row Examined
+     */
+    private static final Set<String> EXPLAIN_FULL_SCAN_TYPES = Set.of("ALL", "index");
+
+    /**
+     * Default Estimated Rows, Below ? COUNT(*)
+     */
+    private static final long DEFAULT_APPROXIMATE_COUNT_THRESHOLD = 100_000;
+
+    /**
+     * Default Keys per IN (?, ?, ?)
+     */
+    private static final int DEFAULT_IN_CHUNK_SIZE = 500;
+
     /**
      * the {@link Executor} instance
      */
@@ -47,6 +118,46 @@ public class Template {
      */
     private TemplateLog logWriter;
 
+    /**
+     * Keys per IN (?, ?, ?)
+     */
+    private int inChunkSize = DEFAULT_IN_CHUNK_SIZE;
+
+    /**
+     * Estimated Rows, Below ? COUNT(*)
+     */
+    private long approximateCountThreshold = DEFAULT_APPROXIMATE_COUNT_THRESHOLD;
+
+    /**
+     * Offset, At Or Above ? SELECT id First Then SELECT column BY id, 0 ? Disabled
+     */
+    private int deferredJoinOffset;
+
+    /**
+     * the {@link PageCountCache} instance, null ? SELECT COUNT every page
+     */
+    private PageCountCache pageCountCache;
+
+    /**
+     * the {@link TableSchemaLoader} instance, null ? Registry Only
+     */
+    private TableSchemaLoader tableSchemaLoader;
+
+    /**
+     * [ the {@link TemplateListener} instance ], One {@link TemplateOperation} per Public Call
+     */
+    private final List<TemplateListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * the {@link OperationRecorder} instance, Of The Call Running Several Statements On This Thread
+     */
+    private final ThreadLocal<OperationRecorder> recorder = new ThreadLocal<>();
+
+    /**
+     * [ the {@link TemplateInterceptor} instance ], Immutable, Replaced On Change
+     */
+    private volatile List<TemplateInterceptor> interceptors = List.of();
+
     public Template(Executor executor) {
         Preconditions.requireNonNull(executor, "executor must not be null");
 
@@ -74,36 +185,251 @@ public class Template {
      */
     public List<Map<String, Value>> selectList(@NotNull String tableName,
                                                List<BaseFilter> filters, List<Order> orders, Page page, @Nullable Integer tableNum) {
+        return selectList(tableName, null, filters, orders, page, tableNum);
+    }
+
+    /**
+     * SELECT LIST
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @param orders      [ the {@link Order} instance ]
+     * @param page        the {@link Page} instance
+     * @return [ [ Column Name : Column Value ] ]
+     */
+    public List<Map<String, Value>> selectList(@NotNull TableSchema tableSchema,
+                                               List<BaseFilter> filters, List<Order> orders, Page page) {
+        return selectList(tableSchema, null, filters, orders, page);
+    }
+
+    /**
+     * SELECT LIST, Projected Columns
+     *
+     * @param tableName FROM table
+     * @param columns   [ Column Name ], if null or empty ? All Columns
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @param orders    [ the {@link Order} instance ]
+     * @param page      the {@link Page} instance
+     * @param tableNum  Sharding Table Num
+     * @return [ [ Column Name : Column Value ] ]
+     */
+    public List<Map<String, Value>> selectList(@NotNull String tableName,
+                                               List<String> columns, List<BaseFilter> filters, List<Order> orders, Page page, @Nullable Integer tableNum) {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
-        List<Map<String, Value>> result = selectList(tableSchema, filters, orders, page);
+        List<Map<String, Value>> result = doSelectList(tableSchema, tableName, tableNum, columns, filters, orders, page);
 
         writeLogSelectList(tableName, filters, orders, page, tableNum, result);
         return result;
     }
 
     /**
-     * SELECT LIST
+     * SELECT LIST, Projected Columns
      *
      * @param tableSchema the {@link TableSchema} instance
+     * @param columns     [ Column Name ], if null or empty ? All Columns
      * @param filters     [ the {@link BaseFilter} instance ]
      * @param orders      [ the {@link Order} instance ]
      * @param page        the {@link Page} instance
      * @return [ [ Column Name : Column Value ] ]
      */
     public List<Map<String, Value>> selectList(@NotNull TableSchema tableSchema,
-                                               List<BaseFilter> filters, List<Order> orders, Page page) {
-        SqlParameter sqlParameter = parseSelect(tableSchema, filters, orders, page);
+                                               List<String> columns, List<BaseFilter> filters, List<Order> orders, Page page) {
+        List<Map<String, Value>> result = doSelectList(tableSchema, tableSchema.getTableName(), null, columns, filters, orders, page);
 
-        List<String> columnNames = tableSchema.getColumnNames();
-        Map<String, Class<?>> valueTypes = tableSchema.getValueTypes();
+        writeLogSelectList(tableSchema, filters, orders, page, result);
+        return result;
+    }
 
-        Executor executor = getExecutor();
-        List<Map<String, Value>> result = executor.selectList(sqlParameter, columnNames, valueTypes);
+    /**
+     * SELECT LIST
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   FROM table
+     * @param tableNum    Sharding Table Num
+     * @param columns     [ Column Name ], if null or empty ? All Columns
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @param orders      [ the {@link Order} instance ]
+     * @param page        the {@link Page} instance
+     * @return [ [ Column Name : Column Value ] ]
+     */
+    protected List<Map<String, Value>> doSelectList(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                                    List<String> columns, List<BaseFilter> filters, List<Order> orders, Page page) {
+        Projection projection = ProjectionParser.parse(tableSchema, columns);
+        if (isDeferredJoin(tableSchema, projection, page)) {
+            return record(OperationType.SELECT_LIST, tableName, tableNum,
+                    () -> selectListDeferred(tableSchema, tableName, tableNum, projection, filters, orders, page));
+        }
+
+        String joinedTableName = joinTableName(tableName, tableNum);
+        SqlParameter sqlParameter = parseSelect(joinedTableName, projection.getJoinedColumns(), filters, orders, page);
+
+        List<String> columnNames = projection.getColumnNames();
+        Map<String, Class<?>> valueTypes = projection.getValueTypes();
+
+        return execute(OperationType.SELECT_LIST, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.selectList(parameter, columnNames, valueTypes));
+    }
+
+    /**
+     * SELECT LIST, Deferred Join
+     * <p>
+     * SELECT id FROM table WHERE column = ? ORDER BY name ASC LIMIT offset, limit
+     * <p>
+     * SELECT column, column FROM table WHERE id IN (?, ?, ?)
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   FROM table
+     * @param tableNum    Sharding Table Num
+     * @param projection  the {@link Projection} instance, contains id
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @param orders      [ the {@link Order} instance ]
+     * @param page        the {@link Page} instance
+     * @return [ [ Column Name : Column Value ] ], in the order of ids
+     */
+    protected List<Map<String, Value>> selectListDeferred(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                                          @NotNull Projection projection, List<BaseFilter> filters, List<Order> orders, Page page) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+        String idName = tableSchema.getIdName();
+
+        List<String> columnNames = projection.getColumnNames();
+        Map<String, Class<?>> valueTypes = projection.getValueTypes();
+
+        List<String> idNames = Collections.singletonList(idName);
+        Map<String, Class<?>> idTypes = Collections.singletonMap(idName, valueTypes.get(idName));
+
+        SqlParameter idParameter = parseSelect(joinedTableName, idName, filters, orders, page);
+        List<Map<String, Value>> ids = execute(OperationType.SELECT_LIST, tableSchema, tableName, tableNum, idParameter,
+                (executor, parameter) -> executor.selectList(parameter, idNames, idTypes));
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Value> idValues = new ArrayList<>(ids.size());
+        for (Map<String, Value> values : ids) {
+            Value idValue = values != null ? values.get(idName) : null;
+            if (idValue != null) {
+                idValues.add(idValue);
+            }
+        }
+
+        Map<String, Map<String, Value>> rows = HashMap.newHashMap(idValues.size());
+        String joinedColumns = projection.getJoinedColumns();
+        int chunkSize = getInChunkSize();
+
+        for (int from = 0, size = idValues.size(); from < size; from += chunkSize) {
+            List<Value> chunk = idValues.subList(from, Math.min(from + chunkSize, size));
+
+            SqlParameter sqlParameter = parseSelectIn(joinedTableName, joinedColumns, idName, chunk);
+            List<Map<String, Value>> list = execute(OperationType.SELECT_LIST, tableSchema, tableName, tableNum, sqlParameter,
+                    (executor, parameter) -> executor.selectList(parameter, columnNames, valueTypes));
+            if (list == null) {
+                continue;
+            }
+
+            for (Map<String, Value> values : list) {
+                String key = values != null ? KeyValues.keyOf(values.get(idName)) : null;
+                if (key != null) {
+                    rows.put(key, values);
+                }
+            }
+        }
+
+        List<Map<String, Value>> result = new ArrayList<>(idValues.size());
+        for (Value idValue : idValues) {
+            Map<String, Value> values = rows.get(KeyValues.keyOf(idValue));
+            if (values != null) {
+                result.add(values);
+            }
+        }
 
-        writeLogSelectList(tableSchema, filters, orders, page, result);
         return result;
     }
 
+    /**
+     * SELECT PAGE, SELECT LIST And SELECT COUNT Concurrently, Serially Within A Transaction
+     *
+     * @param tableName FROM table
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @param orders    [ the {@link Order} instance ]
+     * @param page      the {@link Page} instance
+     * @param tableNum  Sharding Table Num
+     * @return the {@link PageResult} instance
+     */
+    @NotNull
+    public PageResult selectPage(@NotNull String tableName,
+                                 List<BaseFilter> filters, List<Order> orders, Page page, @Nullable Integer tableNum) {
+        return record(OperationType.SELECT_PAGE, tableName, tableNum, () -> doSelectPage(tableName, tableNum, filters, orders, page));
+    }
+
+    /**
+     * SELECT PAGE, SELECT LIST And SELECT COUNT Concurrently, Serially Within A Transaction
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @param orders    [ the {@link Order} instance ]
+     * @param page      the {@link Page} instance
+     * @return the {@link PageResult} instance
+     */
+    @NotNull
+    protected PageResult doSelectPage(@NotNull String tableName, @Nullable Integer tableNum,
+                                      List<BaseFilter> filters, List<Order> orders, Page page) {
+        if (page == null) {
+            List<Map<String, Value>> list = selectList(tableName, filters, orders, null, tableNum);
+            return new PageResult(list, list != null ? list.size() : 0);
+        }
+
+        PageCountCache pageCountCache = getPageCountCache();
+        String cacheKey = null;
+        if (pageCountCache != null) {
+            String joinedTableName = joinTableName(tableName, tableNum);
+            cacheKey = PageCountCache.keyOf(joinedTableName, parseSelect(joinedTableName, AGGREGATE, filters, null, null));
+
+            Long cachedTotal = pageCountCache.get(cacheKey);
+            if (cachedTotal != null) {
+                List<Map<String, Value>> list = selectList(tableName, filters, orders, page, tableNum);
+                return new PageResult(list, cachedTotal);
+            }
+        }
+
+        FutureTask<Long> countTask = null;
+        if (isCountConcurrent()) {
+            countTask = new FutureTask<>(propagate(() -> selectCount(tableName, filters, tableNum)));
+            Thread.ofVirtual().start(countTask);
+        }
+
+        List<Map<String, Value>> list;
+        try {
+            list = selectList(tableName, filters, orders, page, tableNum);
+        } catch (RuntimeException | Error ex) {
+            if (countTask != null) {
+                countTask.cancel(true);
+            }
+
+            throw ex;
+        }
+
+        long total;
+        Long partialTotal = getPartialTotal(page, list);
+        if (partialTotal != null) {
+            if (countTask != null) {
+                countTask.cancel(true);
+            }
+
+            total = partialTotal;
+        } else if (countTask != null) {
+            total = joinCount(countTask);
+        } else {
+            total = selectCount(tableName, filters, tableNum);
+        }
+
+        if (cacheKey != null) {
+            pageCountCache.put(cacheKey, total);
+        }
+
+        return new PageResult(list, total);
+    }
+
     /**
      * SELECT COUNT
      *
@@ -114,8 +440,7 @@ public class Template {
      */
     public long selectCount(@NotNull String tableName,
                             List<BaseFilter> filters, @Nullable Integer tableNum) {
-        String joinedTableName = joinTableName(tableName, tableNum);
-        Long aggregate = selectCount(joinedTableName, filters);
+        Long aggregate = doSelectCount(tableName, tableNum, filters);
         long result = aggregate != null ? aggregate : 0;
 
         writeLogSelectCount(tableName, filters, tableNum, result);
@@ -131,16 +456,196 @@ public class Template {
      */
     public Long selectCount(@NotNull String tableName,
                             List<BaseFilter> filters) {
-        SqlParameter sqlParameter = parseSelect(tableName, AGGREGATE, filters, null, null);
-
-        Executor executor = getExecutor();
-        Value aggregate = executor.getOne(sqlParameter, Long.class);
-        Long result = aggregate != null ? aggregate.getLong() : null;
+        Long result = doSelectCount(tableName, null, filters);
 
         writeLogSelectCount(tableName, filters, result);
         return result;
     }
 
+    /**
+     * SELECT COUNT
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return AGGREGATE
+     */
+    protected Long doSelectCount(@NotNull String tableName, @Nullable Integer tableNum,
+                                 List<BaseFilter> filters) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+        SqlParameter sqlParameter = parseSelect(joinedTableName, AGGREGATE, filters, null, null);
+
+        Value aggregate = execute(OperationType.SELECT_COUNT, null, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.getOne(parameter, Long.class));
+        return aggregate != null ? aggregate.getLong() : null;
+    }
+
+    /**
+     * SELECT COUNT, Estimated By Table Statistics, Exact If Estimated Below approximateCountThreshold
+     *
+     * @param tableName FROM table
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @param tableNum  Sharding Table Num
+     * @return the {@link CountResult} instance
+     */
+    @NotNull
+    public CountResult selectCountApproximate(@NotNull String tableName,
+                                              List<BaseFilter> filters, @Nullable Integer tableNum) {
+        CountResult result = record(OperationType.SELECT_COUNT, tableName, tableNum,
+                () -> doSelectCountApproximate(tableName, tableNum, filters));
+
+        writeLogSelectCount(tableName, filters, tableNum, result.getCount());
+        return result;
+    }
+
+    /**
+     * SELECT COUNT, Estimated By Table Statistics, Exact If Estimated Below approximateCountThreshold
+     *
+     * @param tableName FROM table
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return the {@link CountResult} instance
+     */
+    @NotNull
+    public CountResult selectCountApproximate(@NotNull String tableName,
+                                              List<BaseFilter> filters) {
+        CountResult result = record(OperationType.SELECT_COUNT, tableName, null,
+                () -> doSelectCountApproximate(tableName, null, filters));
+
+        writeLogSelectCount(tableName, filters, result.getCount());
+        return result;
+    }
+
+    /**
+     * SELECT COUNT, Estimated By Table Statistics, Exact If Estimated Below approximateCountThreshold
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return the {@link CountResult} instance
+     */
+    @NotNull
+    protected CountResult doSelectCountApproximate(@NotNull String tableName, @Nullable Integer tableNum,
+                                                   List<BaseFilter> filters) {
+        Long estimated = (filters == null || filters.isEmpty())
+                ? doSelectTableRows(tableName, tableNum)
+                : doSelectExplainRows(tableName, tableNum, filters);
+        if (estimated != null && estimated >= getApproximateCountThreshold()) {
+            return new CountResult(estimated, false);
+        }
+
+        Long aggregate = doSelectCount(tableName, tableNum, filters);
+        return new CountResult(aggregate != null ? aggregate : 0, true);
+    }
+
+    /**
+     * SELECT TABLE_ROWS FROM information_schema.TABLES
+     *
+     * @param tableName FROM table
+     * @return Estimated Rows, null if no statistics
+     */
+    @Nullable
+    public Long selectTableRows(@NotNull String tableName) {
+        return doSelectTableRows(tableName, null);
+    }
+
+    /**
+     * SELECT TABLE_ROWS FROM information_schema.TABLES
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @return Estimated Rows, null if no statistics
+     */
+    @Nullable
+    protected Long doSelectTableRows(@NotNull String tableName, @Nullable Integer tableNum) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+
+        SqlParameter sqlParameter = new SqlParameter();
+        sqlParameter.setSql(TABLE_ROWS);
+        sqlParameter.setParameterNames(Collections.singletonList(TABLE_ROWS_PARAMETER));
+        sqlParameter.setParameters(Collections.singletonMap(TABLE_ROWS_PARAMETER, new Value(joinedTableName)));
+
+        Value rows = execute(OperationType.SELECT_COUNT, null, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.getOne(parameter, Long.class));
+        return rows != null ? rows.getLong() : null;
+    }
+
+    /**
+     * EXPLAIN SELECT COUNT(*) AS aggregate FROM table WHERE column = ?
+     *
+     * @param tableName FROM table
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return Estimated Rows, rows * filtered / 100 of the plan, null if no estimate or a full scan
+     */
+    @Nullable
+    public Long selectExplainRows(@NotNull String tableName,
+                                  List<BaseFilter> filters) {
+        return doSelectExplainRows(tableName, null, filters);
+    }
+
+    /**
+     * EXPLAIN SELECT COUNT(*) AS aggregate FROM table WHERE column = ?
+     * <p>
+     * rows counts the rows examined, filtered the percent of them the conditions leave:
+     * the estimate is rows * filtered / 100 of the single-table plan. A plan not bounded by an index has no estimate,
+     * its filtered is a guess on an unindexed column, the exact count is taken instead.
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return Estimated Rows, null if no estimate or a full scan
+     */
+    @Nullable
+    protected Long doSelectExplainRows(@NotNull String tableName, @Nullable Integer tableNum,
+                                       List<BaseFilter> filters) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+        SqlParameter sqlParameter = parseSelect(joinedTableName, AGGREGATE, filters, null, null);
+        sqlParameter.setSql(EXPLAIN + sqlParameter.getSql());
+
+        List<Map<String, Value>> list = execute(OperationType.SELECT_COUNT, null, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.selectList(parameter, EXPLAIN_COLUMN_NAMES, EXPLAIN_VALUE_TYPES));
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Value> values = list.getFirst();
+        if (values == null) {
+            return null;
+        }
+
+        Value type = values.get(EXPLAIN_TYPE);
+        if (type == null || type.getString() == null || EXPLAIN_FULL_SCAN_TYPES.contains(type.getString())) {
+            return null;
+        }
+
+        Value rows = values.get(EXPLAIN_ROWS);
+        Long examined = rows != null ? rows.getLong() : null;
+        if (examined == null) {
+            return null;
+        }
+
+        return Math.round(examined * parseFiltered(values.get(EXPLAIN_FILTERED)) / 100.0);
+    }
+
+    /**
+     * Parse EXPLAIN filtered
+     *
+     * @param filtered the {@link Value} instance, Nullable
+     * @return Percent, 0.0 ~ 100.0, 100.0 if absent or not a number
+     */
+    private static double parseFiltered(Value filtered) {
+        String text = filtered != null ? filtered.getString() : null;
+        if (text == null) {
+            return 100.0;
+        }
+
+        try {
+            double result = Double.parseDouble(text.trim());
+            return Double.isNaN(result) ? 100.0 : Math.max(0.0, Math.min(100.0, result));
+        } catch (NumberFormatException ex) {
+            return 100.0;
+        }
+    }
+
     /**
      * SELECT ONE
      *
@@ -152,56 +657,118 @@ public class Template {
      */
     public Map<String, Value> selectOne(@NotNull String tableName,
                                         @NotNull Value keyValue, @Nullable String keyName, @Nullable Integer tableNum) {
+        return selectOne(tableName, null, keyValue, keyName, tableNum);
+    }
+
+    /**
+     * SELECT ONE
+     *
+     * @param tableName FROM table
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @param orders    [ the {@link Order} instance ]
+     * @param tableNum  Sharding Table Num
+     * @return [ Column Name : Column Value ]
+     */
+    public Map<String, Value> selectOne(@NotNull String tableName,
+                                        List<BaseFilter> filters, List<Order> orders, @Nullable Integer tableNum) {
+        return selectOne(tableName, null, filters, orders, tableNum);
+    }
+
+    /**
+     * SELECT ONE
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @param orders      [ the {@link Order} instance ]
+     * @return [ Column Name : Column Value ]
+     */
+    public Map<String, Value> selectOne(@NotNull TableSchema tableSchema,
+                                        List<BaseFilter> filters, List<Order> orders) {
+        return selectOne(tableSchema, null, filters, orders);
+    }
+
+    /**
+     * SELECT ONE, Projected Columns
+     *
+     * @param tableName FROM table
+     * @param columns   [ Column Name ], if null or empty ? All Columns
+     * @param keyValue  Key Value
+     * @param keyName   Key Name, if null ? Primary Key
+     * @param tableNum  Sharding Table Num
+     * @return [ Column Name : Column Value ]
+     */
+    public Map<String, Value> selectOne(@NotNull String tableName,
+                                        List<String> columns, @NotNull Value keyValue, @Nullable String keyName, @Nullable Integer tableNum) {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
 
         List<BaseFilter> filters = KeyParser.parseList(tableSchema, keyValue, keyName);
-        Map<String, Value> result = selectOne(tableSchema, filters, null);
+        Map<String, Value> result = doSelectOne(tableSchema, tableName, tableNum, columns, filters, null);
 
         writeLogSelectOne(tableName, keyValue, keyName, tableNum, result);
         return result;
     }
 
     /**
-     * SELECT ONE
+     * SELECT ONE, Projected Columns
      *
      * @param tableName FROM table
+     * @param columns   [ Column Name ], if null or empty ? All Columns
      * @param filters   [ the {@link BaseFilter} instance ]
      * @param orders    [ the {@link Order} instance ]
      * @param tableNum  Sharding Table Num
      * @return [ Column Name : Column Value ]
      */
     public Map<String, Value> selectOne(@NotNull String tableName,
-                                        List<BaseFilter> filters, List<Order> orders, @Nullable Integer tableNum) {
+                                        List<String> columns, List<BaseFilter> filters, List<Order> orders, @Nullable Integer tableNum) {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
-        Map<String, Value> result = selectOne(tableSchema, filters, orders);
+        Map<String, Value> result = doSelectOne(tableSchema, tableName, tableNum, columns, filters, orders);
 
         writeLogSelectOne(tableName, filters, orders, tableNum, result);
         return result;
     }
 
     /**
-     * SELECT ONE
+     * SELECT ONE, Projected Columns
      *
      * @param tableSchema the {@link TableSchema} instance
+     * @param columns     [ Column Name ], if null or empty ? All Columns
      * @param filters     [ the {@link BaseFilter} instance ]
      * @param orders      [ the {@link Order} instance ]
      * @return [ Column Name : Column Value ]
      */
     public Map<String, Value> selectOne(@NotNull TableSchema tableSchema,
-                                        List<BaseFilter> filters, List<Order> orders) {
+                                        List<String> columns, List<BaseFilter> filters, List<Order> orders) {
+        Map<String, Value> result = doSelectOne(tableSchema, tableSchema.getTableName(), null, columns, filters, orders);
+
+        writeLogSelectOne(tableSchema, filters, orders, result);
+        return result;
+    }
+
+    /**
+     * SELECT ONE
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   FROM table
+     * @param tableNum    Sharding Table Num
+     * @param columns     [ Column Name ], if null or empty ? All Columns
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @param orders      [ the {@link Order} instance ]
+     * @return [ Column Name : Column Value ]
+     */
+    protected Map<String, Value> doSelectOne(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                             List<String> columns, List<BaseFilter> filters, List<Order> orders) {
         Page page = new Page();
         page.setLimit(1);
 
-        SqlParameter sqlParameter = parseSelect(tableSchema, filters, orders, page);
+        String joinedTableName = joinTableName(tableName, tableNum);
+        Projection projection = ProjectionParser.parse(tableSchema, columns);
+        SqlParameter sqlParameter = parseSelect(joinedTableName, projection.getJoinedColumns(), filters, orders, page);
 
-        List<String> columnNames = tableSchema.getColumnNames();
-        Map<String, Class<?>> valueTypes = tableSchema.getValueTypes();
+        List<String> columnNames = projection.getColumnNames();
+        Map<String, Class<?>> valueTypes = projection.getValueTypes();
 
-        Executor executor = getExecutor();
-        Map<String, Value> result = executor.selectOne(sqlParameter, columnNames, valueTypes);
-
-        writeLogSelectOne(tableSchema, filters, orders, result);
-        return result;
+        return execute(OperationType.SELECT_ONE, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.selectOne(parameter, columnNames, valueTypes));
     }
 
     /**
@@ -214,8 +781,7 @@ public class Template {
      */
     public boolean checkExist(@NotNull String tableName,
                               List<BaseFilter> filters, @Nullable Integer tableNum) {
-        String joinedTableName = joinTableName(tableName, tableNum);
-        Integer exist = checkExist(joinedTableName, filters);
+        Integer exist = doCheckExist(tableName, tableNum, filters);
         boolean result = exist != null && exist == 1;
 
         writeLogCheckExist(tableName, filters, tableNum, result);
@@ -231,16 +797,137 @@ public class Template {
      */
     public Integer checkExist(@NotNull String tableName,
                               List<BaseFilter> filters) {
+        Integer result = doCheckExist(tableName, null, filters);
+
+        writeLogCheckExist(tableName, filters, result);
+        return result;
+    }
+
+    /**
+     * CHECK EXIST
+     *
+     * @param tableName FROM table
+     * @param tableNum  Sharding Table Num
+     * @param filters   [ the {@link BaseFilter} instance ]
+     * @return EXIST ? 1 : null
+     */
+    protected Integer doCheckExist(@NotNull String tableName, @Nullable Integer tableNum,
+                                   List<BaseFilter> filters) {
         Page page = new Page();
         page.setLimit(1);
 
-        SqlParameter sqlParameter = parseSelect(tableName, "1", filters, null, page);
+        String joinedTableName = joinTableName(tableName, tableNum);
+        SqlParameter sqlParameter = parseSelect(joinedTableName, "1", filters, null, page);
 
-        Executor executor = getExecutor();
-        Value exist = executor.getOne(sqlParameter, Integer.class);
-        Integer result = exist != null ? exist.getInteger() : null;
+        Value exist = execute(OperationType.CHECK_EXIST, null, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.getOne(parameter, Integer.class));
+        return exist != null ? exist.getInteger() : null;
+    }
+
+    /**
+     * CHECK EXIST ALL
+     * <p>
+     * Keys are matched as the default collation compares them, case-insensitive and trailing spaces ignored:
+     * on a binary collated key, keys differing only so are all reported as existing.
+     *
+     * @param tableName FROM table
+     * @param keyValues [ Key Value ]
+     * @param keyName   Key Name, if null ? Primary Key
+     * @param tableNum  Sharding Table Num
+     * @return [ EXIST ? set : clear ], bit index = keyValues index
+     */
+    public BitSet checkExistAll(@NotNull String tableName,
+                                @NotNull List<Value> keyValues, @Nullable String keyName, @Nullable Integer tableNum) {
+        TableSchema tableSchema = getTableSchema(tableName, tableNum);
+        BitSet result = record(OperationType.CHECK_EXIST_ALL, tableName, tableNum,
+                () -> doCheckExistAll(tableSchema, tableName, tableNum, keyValues, keyName));
+
+        writeLogCheckExistAll(tableName, keyValues, keyName, tableNum, result);
+        return result;
+    }
+
+    /**
+     * CHECK EXIST ALL, SELECT key FROM table WHERE key IN (?, ?, ?), chunked by inChunkSize
+     * <p>
+     * Keys are matched case-insensitive and trailing spaces ignored, see {@link KeyValues#collatedKeyOf(Value)}.
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param keyValues   [ Key Value ]
+     * @param keyName     Key Name, if null ? Primary Key
+     * @return [ EXIST ? set : clear ], bit index = keyValues index
+     */
+    public BitSet checkExistAll(@NotNull TableSchema tableSchema,
+                                @NotNull List<Value> keyValues, @Nullable String keyName) {
+        String tableName = tableSchema.getTableName();
+        BitSet result = record(OperationType.CHECK_EXIST_ALL, tableName, null,
+                () -> doCheckExistAll(tableSchema, tableName, null, keyValues, keyName));
+
+        writeLogCheckExistAll(tableSchema, keyValues, keyName, result);
+        return result;
+    }
+
+    /**
+     * CHECK EXIST ALL, SELECT key FROM table WHERE key IN (?, ?, ?), chunked by inChunkSize
+     * <p>
+     * Keys are matched case-insensitive and trailing spaces ignored, see {@link KeyValues#collatedKeyOf(Value)}.
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   FROM table
+     * @param tableNum    Sharding Table Num
+     * @param keyValues   [ Key Value ]
+     * @param keyName     Key Name, if null ? Primary Key
+     * @return [ EXIST ? set : clear ], bit index = keyValues index
+     */
+    protected BitSet doCheckExistAll(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                     @NotNull List<Value> keyValues, @Nullable String keyName) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+        String name = keyName != null ? keyName.trim() : tableSchema.getIdName();
+        Preconditions.requireNonEmpty(name, "keyName must not be empty, tableName: " + joinedTableName);
+
+        Class<?> keyType = tableSchema.getValueTypes().get(name);
+        Preconditions.requireNonNull(keyType, "unsupported keyName: " + name + ", tableName: " + joinedTableName);
+
+        List<String> columnNames = Collections.singletonList(name);
+        Map<String, Class<?>> valueTypes = Collections.singletonMap(name, keyType);
+
+        int size = keyValues.size();
+        int chunkSize = getInChunkSize();
+        BitSet result = new BitSet(size);
+
+        List<Value> chunk = new ArrayList<>(Math.min(size, chunkSize));
+
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(from + chunkSize, size);
+
+            chunk.clear();
+            for (int i = from; i < to; i++) {
+                Value keyValue = keyValues.get(i);
+                if (keyValue != null) {
+                    chunk.add(keyValue);
+                }
+            }
+
+            if (chunk.isEmpty()) {
+                continue;
+            }
+
+            SqlParameter sqlParameter = parseSelectIn(joinedTableName, name, name, chunk);
+            List<Map<String, Value>> list = execute(OperationType.CHECK_EXIST_ALL, tableSchema, tableName, tableNum, sqlParameter,
+                    (executor, parameter) -> executor.selectList(parameter, columnNames, valueTypes));
+
+            Set<String> existKeys = KeyValues.keysOf(list, name);
+            if (existKeys.isEmpty()) {
+                continue;
+            }
+
+            for (int i = from; i < to; i++) {
+                String key = KeyValues.collatedKeyOf(keyValues.get(i));
+                if (key != null && existKeys.contains(key)) {
+                    result.set(i);
+                }
+            }
+        }
 
-        writeLogCheckExist(tableName, filters, result);
         return result;
     }
 
@@ -255,7 +942,7 @@ public class Template {
     public int insert(@NotNull String tableName,
                       @NotNull Map<String, Value> values, @Nullable Integer tableNum) {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
-        int result = insert(tableSchema, values);
+        int result = doInsert(tableSchema, tableName, tableNum, values);
 
         writeLogInsert(tableName, values, tableNum, result);
         return result;
@@ -270,9 +957,26 @@ public class Template {
      */
     public int insert(@NotNull TableSchema tableSchema,
                       @NotNull Map<String, Value> values) {
+        int result = doInsert(tableSchema, tableSchema.getTableName(), null, values);
+
+        writeLogInsert(tableSchema, values, result);
+        return result;
+    }
+
+    /**
+     * INSERT
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   INSERT INTO table
+     * @param tableNum    Sharding Table Num
+     * @param values      [ Column Name : Column Value ]
+     * @return AFFECTED ROWS
+     */
+    protected int doInsert(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                           @NotNull Map<String, Value> values) {
         SqlParameter sqlParameter = new SqlParameter();
 
-        String sql = parseInsert(tableSchema, 1);
+        String sql = parseInsert(tableSchema, joinTableName(tableName, tableNum), 1);
         sqlParameter.setSql(sql);
 
         List<String> parameterNames = tableSchema.getColumnsOnInsert();
@@ -281,11 +985,9 @@ public class Template {
         Map<String, Value> parameters = DefaultValues.setDefaultValuesOnInsert(tableSchema, values);
         sqlParameter.setParameters(parameters);
 
-        Executor executor = getExecutor();
-        int result = executor.update(sqlParameter);
-
-        writeLogInsert(tableSchema, values, result);
-        return result;
+        Integer result = execute(OperationType.INSERT, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.update(parameter));
+        return result != null ? result : 0;
     }
 
     /**
@@ -296,12 +998,27 @@ public class Template {
      * @param tableNum  Sharding Table Num
      * @return AFFECTED ROWS
      */
-    public int batchInsert(@NotNull String tableName,
-                           @NotNull List<Map<String, Value>> list, @Nullable Integer tableNum) {
-        TableSchema tableSchema = getTableSchema(tableName, tableNum);
-        int result = batchInsert(tableSchema, list);
+    public int batchInsert(@NotNull String tableName,
+                           @NotNull List<Map<String, Value>> list, @Nullable Integer tableNum) {
+        TableSchema tableSchema = getTableSchema(tableName, tableNum);
+        int result = doBatchInsert(tableSchema, tableName, tableNum, list);
+
+        writeLogBatchInsert(tableName, list, tableNum, result);
+        return result;
+    }
+
+    /**
+     * BATCH INSERT
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param list        [ [ Column Name : Column Value ] ]
+     * @return AFFECTED ROWS
+     */
+    public int batchInsert(@NotNull TableSchema tableSchema,
+                           @NotNull List<Map<String, Value>> list) {
+        int result = doBatchInsert(tableSchema, tableSchema.getTableName(), null, list);
 
-        writeLogBatchInsert(tableName, list, tableNum, result);
+        writeLogBatchInsert(tableSchema, list, result);
         return result;
     }
 
@@ -309,11 +1026,13 @@ public class Template {
      * BATCH INSERT
      *
      * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   INSERT INTO table
+     * @param tableNum    Sharding Table Num
      * @param list        [ [ Column Name : Column Value ] ]
      * @return AFFECTED ROWS
      */
-    public int batchInsert(@NotNull TableSchema tableSchema,
-                           @NotNull List<Map<String, Value>> list) {
+    protected int doBatchInsert(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                @NotNull List<Map<String, Value>> list) {
         List<Map<String, Value>> parametersList = DefaultValues.setDefaultValuesOnInsert(tableSchema, list);
         int batchSize = parametersList.size();
         if (batchSize == 0) {
@@ -322,7 +1041,7 @@ public class Template {
 
         SqlParameter sqlParameter = new SqlParameter();
 
-        String sql = parseInsert(tableSchema, batchSize);
+        String sql = parseInsert(tableSchema, joinTableName(tableName, tableNum), batchSize);
         sqlParameter.setSql(sql);
 
         List<String> parameterNames = tableSchema.getColumnsOnInsert();
@@ -330,11 +1049,9 @@ public class Template {
 
         sqlParameter.setParametersList(parametersList);
 
-        Executor executor = getExecutor();
-        int result = executor.updateList(sqlParameter);
-
-        writeLogBatchInsert(tableSchema, list, result);
-        return result;
+        Integer result = execute(OperationType.BATCH_INSERT, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.updateList(parameter));
+        return result != null ? result : 0;
     }
 
     /**
@@ -353,7 +1070,8 @@ public class Template {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
 
         List<BaseFilter> filters = KeyParser.parseList(tableSchema, keyValue, keyName);
-        int result = update(tableName, sets, setValues, filters, tableNum);
+        List<String> setNames = SetParser.parseSetNames(tableSchema, setValues);
+        int result = doUpdate(tableSchema, tableName, tableNum, sets, setNames, setValues, filters);
 
         writeLogUpdate(tableName, keyValue, sets, setValues, keyName, tableNum, result);
         return result;
@@ -374,7 +1092,7 @@ public class Template {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
 
         List<String> setNames = SetParser.parseSetNames(tableSchema, setValues);
-        int result = update(tableSchema.getTableName(), sets, setNames, setValues, filters);
+        int result = doUpdate(tableSchema, tableName, tableNum, sets, setNames, setValues, filters);
 
         writeLogUpdate(tableName, sets, setValues, filters, tableNum, result);
         return result;
@@ -392,9 +1110,31 @@ public class Template {
      */
     public int update(@NotNull String tableName,
                       List<String> sets, List<String> setNames, Map<String, Value> setValues, List<BaseFilter> filters) {
+        int result = doUpdate(null, tableName, null, sets, setNames, setValues, filters);
+
+        writeLogUpdate(tableName, sets, setNames, setValues, filters, result);
+        return result;
+    }
+
+    /**
+     * UPDATE
+     *
+     * @param tableSchema the {@link TableSchema} instance, null if not resolved
+     * @param tableName   UPDATE table
+     * @param tableNum    Sharding Table Num
+     * @param sets        [ column = column + 1 ]
+     * @param setNames    [ Set Name ]
+     * @param setValues   [ Set Name : Set Value ]
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @return AFFECTED ROWS
+     */
+    protected int doUpdate(@Nullable TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                           List<String> sets, List<String> setNames, Map<String, Value> setValues, List<BaseFilter> filters) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+
         SqlParser sqlParser = getSqlParser();
         String joinedSets = SetParser.joinSets(sets, setNames);
-        SqlParameter sqlParameter = sqlParser.parseUpdate(tableName, joinedSets, filters);
+        SqlParameter sqlParameter = sqlParser.parseUpdate(joinedTableName, joinedSets, filters);
 
         List<String> parameterNames = PlaceholderValues.concatNames(setNames, sqlParameter.getParameterNames());
         Map<String, Value> parameters = PlaceholderValues.concatParameters(setValues, sqlParameter.getParameters());
@@ -402,11 +1142,9 @@ public class Template {
         sqlParameter.setParameterNames(parameterNames);
         sqlParameter.setParameters(parameters);
 
-        Executor executor = getExecutor();
-        int result = executor.update(sqlParameter);
-
-        writeLogUpdate(tableName, sets, setNames, setValues, filters, result);
-        return result;
+        Integer result = execute(OperationType.UPDATE, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.update(parameter));
+        return result != null ? result : 0;
     }
 
     /**
@@ -423,7 +1161,7 @@ public class Template {
     public int[] batchUpdate(@NotNull String tableName,
                              List<String> sets, List<String> setNames, List<Map<String, Value>> list, @Nullable String keyName, @Nullable Integer tableNum) {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
-        int[] result = batchUpdate(tableSchema, sets, setNames, list, keyName);
+        int[] result = doBatchUpdate(tableSchema, tableName, tableNum, sets, setNames, list, keyName);
 
         writeLogBatchUpdate(tableName, sets, setNames, list, keyName, tableNum, result);
         return result;
@@ -441,9 +1179,29 @@ public class Template {
      */
     public int[] batchUpdate(@NotNull TableSchema tableSchema,
                              List<String> sets, List<String> setNames, List<Map<String, Value>> list, @Nullable String keyName) {
-        String tableName = tableSchema.getTableName();
+        int[] result = doBatchUpdate(tableSchema, tableSchema.getTableName(), null, sets, setNames, list, keyName);
+
+        writeLogBatchUpdate(tableSchema, sets, setNames, list, keyName, result);
+        return result;
+    }
+
+    /**
+     * BATCH UPDATE, No Transactional
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   UPDATE table
+     * @param tableNum    Sharding Table Num
+     * @param sets        [ column = column + 1 ]
+     * @param setNames    [ Set Name ]
+     * @param list        [ [ Parameter Name : Parameter Value ] ]
+     * @param keyName     Key Name, if null ? Primary Key
+     * @return [ AFFECTED ROWS ]
+     */
+    protected int[] doBatchUpdate(@NotNull TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                                  List<String> sets, List<String> setNames, List<Map<String, Value>> list, @Nullable String keyName) {
+        String joinedTableName = joinTableName(tableName, tableNum);
         String idName = keyName != null ? keyName.trim() : tableSchema.getIdName();
-        Preconditions.requireNonEmpty(idName, "idName must not be empty, tableName: " + tableName);
+        Preconditions.requireNonEmpty(idName, "idName must not be empty, tableName: " + joinedTableName);
 
         if (setNames != null) {
             setNames.remove(idName);
@@ -455,16 +1213,13 @@ public class Template {
         SqlParser sqlParser = getSqlParser();
         String joinedSets = SetParser.joinSets(sets, setNames);
         List<BaseFilter> filters = KeyParser.parseList(idName);
-        SqlParameter sqlParameter = sqlParser.parseUpdate(tableName, joinedSets, filters);
+        SqlParameter sqlParameter = sqlParser.parseUpdate(joinedTableName, joinedSets, filters);
 
         sqlParameter.setParameterNames(parameterNames);
         sqlParameter.setParametersList(list);
 
-        Executor executor = getExecutor();
-        int[] result = executor.batchUpdate(sqlParameter);
-
-        writeLogBatchUpdate(tableSchema, sets, setNames, list, keyName, result);
-        return result;
+        return execute(OperationType.BATCH_UPDATE, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.batchUpdate(parameter));
     }
 
     /**
@@ -481,7 +1236,7 @@ public class Template {
         TableSchema tableSchema = getTableSchema(tableName, tableNum);
 
         List<BaseFilter> filters = KeyParser.parseList(tableSchema, keyValue, keyName);
-        int result = delete(tableName, filters, tableNum);
+        int result = doDelete(tableSchema, tableName, tableNum, filters);
 
         writeLogDelete(tableName, keyValue, keyName, tableNum, result);
         return result;
@@ -497,8 +1252,7 @@ public class Template {
      */
     public int delete(@NotNull String tableName,
                       List<BaseFilter> filters, @Nullable Integer tableNum) {
-        String joinedTableName = joinTableName(tableName, tableNum);
-        int result = delete(joinedTableName, filters);
+        int result = doDelete(null, tableName, tableNum, filters);
 
         writeLogDelete(tableName, filters, tableNum, result);
         return result;
@@ -513,14 +1267,167 @@ public class Template {
      */
     public int delete(@NotNull String tableName,
                       List<BaseFilter> filters) {
+        int result = doDelete(null, tableName, null, filters);
+
+        writeLogDelete(tableName, filters, result);
+        return result;
+    }
+
+    /**
+     * DELETE
+     *
+     * @param tableSchema the {@link TableSchema} instance, null if not resolved
+     * @param tableName   DELETE FROM table
+     * @param tableNum    Sharding Table Num
+     * @param filters     [ the {@link BaseFilter} instance ]
+     * @return AFFECTED ROWS
+     */
+    protected int doDelete(@Nullable TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                           List<BaseFilter> filters) {
+        String joinedTableName = joinTableName(tableName, tableNum);
+
         SqlParser sqlParser = getSqlParser();
-        SqlParameter sqlParameter = sqlParser.parseDelete(tableName, filters);
+        SqlParameter sqlParameter = sqlParser.parseDelete(joinedTableName, filters);
+
+        Integer result = execute(OperationType.DELETE, tableSchema, tableName, tableNum, sqlParameter,
+                (executor, parameter) -> executor.update(parameter));
+        return result != null ? result : 0;
+    }
+
+    /**
+     * Record, One {@link TemplateOperation} For A Call Running Several Statements
+     * <p>
+     * The statements the call executes, on this thread or propagated, are listed in the operation,
+     * a call within a recorded call is part of it.
+     *
+     * @param type      the {@link OperationType} instance
+     * @param tableName Table Name
+     * @param tableNum  Sharding Table Num
+     * @param call      the {@link Supplier} instance, the call
+     * @param <T>       Result Type
+     * @return Result
+     */
+    protected <T> T record(@NotNull OperationType type, @NotNull String tableName, @Nullable Integer tableNum,
+                           @NotNull Supplier<T> call) {
+        List<TemplateListener> listeners = getListeners();
+        if (listeners.isEmpty() || recorder.get() != null) {
+            return call.get();
+        }
+
+        OperationRecorder operationRecorder = new OperationRecorder(type, tableName, tableNum, joinTableName(tableName, tableNum));
+        recorder.set(operationRecorder);
+
+        T result = null;
+        Throwable throwable = null;
+
+        try {
+            result = call.get();
+            return result;
+        } catch (RuntimeException | Error ex) {
+            throwable = ex;
+            throw ex;
+        } finally {
+            recorder.remove();
+            publish(listeners, operationRecorder.finish(result, throwable));
+        }
+    }
+
+    /**
+     * Execute, Through The Interceptors, And Publish the {@link TemplateOperation} instance,
+     * or add the {@link TemplateStatement} to the recorded call
+     *
+     * @param type         the {@link OperationType} instance
+     * @param tableSchema  the {@link TableSchema} instance, null if not resolved
+     * @param tableName    Table Name
+     * @param tableNum     Sharding Table Num
+     * @param sqlParameter the {@link SqlParameter} instance
+     * @param call         the {@link ExecutorCall} instance
+     * @param <T>          Result Type
+     * @return Result
+     */
+    protected <T> T execute(@NotNull OperationType type, @Nullable TableSchema tableSchema, @NotNull String tableName, @Nullable Integer tableNum,
+                            @NotNull SqlParameter sqlParameter, @NotNull ExecutorCall<T> call) {
+        List<TemplateInterceptor> interceptors = getInterceptors();
+        List<TemplateListener> listeners = getListeners();
+        if (interceptors.isEmpty() && listeners.isEmpty()) {
+            return call.call(getExecutor(), sqlParameter);
+        }
+
+        String joinedTableName = joinTableName(tableName, tableNum);
+        if (listeners.isEmpty()) {
+            return intercept(interceptors, type, tableSchema, tableName, tableNum, joinedTableName, sqlParameter, call);
+        }
+
+        long startNanos = System.nanoTime();
+        T result = null;
+        Throwable throwable = null;
+
+        try {
+            result = intercept(interceptors, type, tableSchema, tableName, tableNum, joinedTableName, sqlParameter, call);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            throwable = ex;
+            throw ex;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long rowCount = TemplateOperation.rowCountOf(result);
+
+            TemplateStatement statement = new TemplateStatement(joinedTableName, sqlParameter, rowCount, throwable, startNanos, elapsedNanos);
+            OperationRecorder operationRecorder = recorder.get();
+            if (operationRecorder != null) {
+                operationRecorder.add(statement);
+            } else {
+                publish(listeners, new TemplateOperation(type, tableName, tableNum, joinedTableName,
+                        List.of(statement), rowCount, throwable, startNanos, elapsedNanos));
+            }
+        }
+    }
 
+    /**
+     * Intercept, the {@link TemplateInterceptor} Chain Then The {@link Executor}
+     * <p>
+     * Calls not resolving a schema, e.g. selectCount, checkExist, the approximate counts and filtered update or delete,
+     * pass the schema of the registry to the interceptors, null if not registered, never loaded.
+     *
+     * @param interceptors    [ the {@link TemplateInterceptor} instance ]
+     * @param type            the {@link OperationType} instance
+     * @param tableSchema     the {@link TableSchema} instance, null if not resolved
+     * @param tableName       Table Name
+     * @param tableNum        Sharding Table Num
+     * @param joinedTableName Table Name, With Sharding Table Num
+     * @param sqlParameter    the {@link SqlParameter} instance
+     * @param call            the {@link ExecutorCall} instance
+     * @param <T>             Result Type
+     * @return Result
+     */
+    protected <T> T intercept(@NotNull List<TemplateInterceptor> interceptors,
+                              @NotNull OperationType type, @Nullable TableSchema tableSchema,
+                              @NotNull String tableName, @Nullable Integer tableNum, @NotNull String joinedTableName,
+                              @NotNull SqlParameter sqlParameter, @NotNull ExecutorCall<T> call) {
         Executor executor = getExecutor();
-        int result = executor.update(sqlParameter);
+        if (interceptors.isEmpty()) {
+            return call.call(executor, sqlParameter);
+        }
 
-        writeLogDelete(tableName, filters, result);
-        return result;
+        TableSchema resolved = tableSchema != null ? tableSchema : TableSchemaRegistry.get(joinedTableName);
+        TemplateInvocation<T> invocation = new TemplateInvocation<>(interceptors, executor,
+                type, resolved, tableName, tableNum, joinedTableName, sqlParameter, call);
+        return invocation.proceed();
+    }
+
+    /**
+     * Publish, Never Throw
+     *
+     * @param listeners [ the {@link TemplateListener} instance ]
+     * @param operation the {@link TemplateOperation} instance
+     */
+    protected void publish(@NotNull List<TemplateListener> listeners, @NotNull TemplateOperation operation) {
+        for (TemplateListener listener : listeners) {
+            try {
+                listener.onOperation(operation);
+            } catch (Throwable ignored) {
+            }
+        }
     }
 
     /**
@@ -557,6 +1464,21 @@ public class Template {
         return sqlParser.parseSelect(tableName, false, columns, filters, orders, page);
     }
 
+    /**
+     * SELECT column, column FROM table WHERE key IN (?, ?, ?)
+     *
+     * @param tableName FROM table
+     * @param columns   column, column
+     * @param keyName   Key Name
+     * @param keyValues [ Key Value ]
+     * @return the {@link SqlParameter} instance
+     */
+    @NotNull
+    public SqlParameter parseSelectIn(@NotNull String tableName,
+                                      @NotNull String columns, @NotNull String keyName, @NotNull List<Value> keyValues) {
+        return InParser.parseSelect(tableName, columns, keyName, keyValues);
+    }
+
     /**
      * INSERT INTO table (column, column) VALUES (?, ?), (?, ?), (?, ?)
      *
@@ -566,7 +1488,19 @@ public class Template {
      */
     @NotNull
     public String parseInsert(@NotNull TableSchema tableSchema, int batchSize) {
-        String tableName = tableSchema.getTableName();
+        return parseInsert(tableSchema, tableSchema.getTableName(), batchSize);
+    }
+
+    /**
+     * INSERT INTO table (column, column) VALUES (?, ?), (?, ?), (?, ?)
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param tableName   INSERT INTO table, may differ from the schema's when shared across shards
+     * @param batchSize   Batch Size
+     * @return Parsed SQL
+     */
+    @NotNull
+    public String parseInsert(@NotNull TableSchema tableSchema, @NotNull String tableName, int batchSize) {
         String joinedColumns = tableSchema.getJoinedColumnsOnInsert();
         String joinedValues = tableSchema.getJoinedValuesOnInsert();
 
@@ -586,6 +1520,13 @@ public class Template {
         String joinedTableName = joinTableName(tableName, tableNum);
 
         TableSchema tableSchema = TableSchemaRegistry.get(joinedTableName);
+        if (tableSchema == null) {
+            TableSchemaLoader loader = getTableSchemaLoader();
+            if (loader != null) {
+                tableSchema = loader.load(joinedTableName);
+            }
+        }
+
         Preconditions.requireNonNull(tableSchema, "tableSchema must not be null, tableName: " + joinedTableName);
 
         return tableSchema;
@@ -607,6 +1548,147 @@ public class Template {
         }
     }
 
+    /**
+     * Deferred Join ?
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param projection  the {@link Projection} instance
+     * @param page        the {@link Page} instance
+     * @return offset >= deferredJoinOffset and Primary Key projected ? true : false
+     */
+    protected boolean isDeferredJoin(@NotNull TableSchema tableSchema, @NotNull Projection projection, Page page) {
+        int deferredJoinOffset = getDeferredJoinOffset();
+        if (deferredJoinOffset <= 0 || page == null) {
+            return false;
+        }
+
+        Integer offset = page.getOffset();
+        if (offset == null || offset < deferredJoinOffset) {
+            return false;
+        }
+
+        String idName = tableSchema.getIdName();
+        return idName != null && !idName.isEmpty() && projection.contains(idName);
+    }
+
+    /**
+     * Total Of A Page Not Full, offset + size
+     *
+     * @param page the {@link Page} instance
+     * @param list [ [ Column Name : Column Value ] ]
+     * @return AGGREGATE, null if the page is full or beyond the last row
+     */
+    @Nullable
+    protected Long getPartialTotal(@NotNull Page page, List<Map<String, Value>> list) {
+        Integer limit = page.getLimit();
+        if (limit == null) {
+            return null;
+        }
+
+        Integer offset = page.getOffset();
+        int start = offset != null ? offset : 0;
+
+        int size = list != null ? list.size() : 0;
+        if (size >= limit) {
+            return null;
+        }
+
+        if (size == 0 && start > 0) {
+            return null;
+        }
+
+        return (long) start + size;
+    }
+
+    /**
+     * SELECT COUNT Concurrently ?
+     * <p>
+     * Not within a transaction, the count on another thread would not see its connection.
+     *
+     * @return concurrently ? true : false
+     */
+    protected boolean isCountConcurrent() {
+        return !TransactionSynchronizationManager.isSynchronizationActive() &&
+                !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Propagate The {@link Deadline}, The Recorded Call And The Captured State Of The Interceptors, To A Call On Another Thread
+     *
+     * @param call the {@link Callable} instance
+     * @param <T>  Result Type
+     * @return the {@link Callable} instance, attaches the state of this thread around the call
+     */
+    @NotNull
+    protected <T> Callable<T> propagate(@NotNull Callable<T> call) {
+        Deadline deadline = Deadline.current();
+        OperationRecorder operationRecorder = recorder.get();
+
+        List<TemplateInterceptor> interceptors = getInterceptors();
+        List<TemplateInterceptor.Context> contexts = new ArrayList<>(interceptors.size());
+        for (TemplateInterceptor interceptor : interceptors) {
+            TemplateInterceptor.Context context = interceptor.capture();
+            if (context != null) {
+                contexts.add(context);
+            }
+        }
+
+        return () -> {
+            Deadline.Scope deadlineScope = Deadline.within(deadline);
+            OperationRecorder previous = recorder.get();
+            recorder.set(operationRecorder);
+
+            List<TemplateInterceptor.Scope> scopes = new ArrayList<>(contexts.size());
+            try {
+                for (TemplateInterceptor.Context context : contexts) {
+                    scopes.add(context.attach());
+                }
+
+                return call.call();
+            } finally {
+                for (int i = scopes.size() - 1; i >= 0; i--) {
+                    scopes.get(i).close();
+                }
+
+                if (previous != null) {
+                    recorder.set(previous);
+                } else {
+                    recorder.remove();
+                }
+
+                deadlineScope.close();
+            }
+        };
+    }
+
+    /**
+     * Wait SELECT COUNT
+     *
+     * @param countTask the {@link FutureTask} instance
+     * @return AGGREGATE
+     */
+    protected long joinCount(@NotNull FutureTask<Long> countTask) {
+        try {
+            Long result = countTask.get();
+            return result != null ? result : 0;
+        } catch (InterruptedException ex) {
+            countTask.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("selectCount interrupted", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (cause instanceof Error error) {
+                throw error;
+            }
+
+            throw new IllegalStateException("selectCount failed", cause);
+        }
+    }
+
     @NotNull
     public Executor getExecutor() {
         return executor;
@@ -617,6 +1699,101 @@ public class Template {
         return sqlParser;
     }
 
+    public int getInChunkSize() {
+        return inChunkSize;
+    }
+
+    public void setInChunkSize(int inChunkSize) {
+        if (inChunkSize <= 0) {
+            throw new IllegalArgumentException("inChunkSize must be greater than 0, inChunkSize: " + inChunkSize);
+        }
+
+        this.inChunkSize = inChunkSize;
+    }
+
+    public long getApproximateCountThreshold() {
+        return approximateCountThreshold;
+    }
+
+    public void setApproximateCountThreshold(long approximateCountThreshold) {
+        this.approximateCountThreshold = approximateCountThreshold;
+    }
+
+    public int getDeferredJoinOffset() {
+        return deferredJoinOffset;
+    }
+
+    public void setDeferredJoinOffset(int deferredJoinOffset) {
+        this.deferredJoinOffset = deferredJoinOffset;
+    }
+
+    @Nullable
+    public PageCountCache getPageCountCache() {
+        return pageCountCache;
+    }
+
+    public void setPageCountCache(@Nullable PageCountCache pageCountCache) {
+        this.pageCountCache = pageCountCache;
+    }
+
+    public TableSchemaLoader getTableSchemaLoader() {
+        return tableSchemaLoader;
+    }
+
+    public void setTableSchemaLoader(@Nullable TableSchemaLoader tableSchemaLoader) {
+        this.tableSchemaLoader = tableSchemaLoader;
+    }
+
+    public List<TemplateListener> getListeners() {
+        return listeners;
+    }
+
+    public void addListener(@NotNull TemplateListener listener) {
+        Preconditions.requireNonNull(listener, "listener must not be null");
+
+        listeners.add(listener);
+    }
+
+    public void removeListener(TemplateListener listener) {
+        listeners.remove(listener);
+    }
+
+    @NotNull
+    public List<TemplateInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * Add An Interceptor, Innermost
+     *
+     * @param interceptor the {@link TemplateInterceptor} instance
+     * @throws IllegalArgumentException if a second {@link RoutingInterceptor}
+     */
+    public synchronized void addInterceptor(@NotNull TemplateInterceptor interceptor) {
+        Preconditions.requireNonNull(interceptor, "interceptor must not be null");
+
+        if (interceptor instanceof RoutingInterceptor) {
+            for (TemplateInterceptor added : interceptors) {
+                if (added instanceof RoutingInterceptor) {
+                    throw new IllegalArgumentException("at most one routing interceptor, added: " + added.getClass().getName() +
+                            ", interceptor: " + interceptor.getClass().getName());
+                }
+            }
+        }
+
+        List<TemplateInterceptor> result = new ArrayList<>(interceptors);
+        result.add(interceptor);
+
+        this.interceptors = List.copyOf(result);
+    }
+
+    public synchronized void removeInterceptor(TemplateInterceptor interceptor) {
+        List<TemplateInterceptor> result = new ArrayList<>(interceptors);
+        if (result.remove(interceptor)) {
+            this.interceptors = List.copyOf(result);
+        }
+    }
+
     /**
      * SELECT LIST
      *
@@ -791,6 +1968,45 @@ public class Template {
         }
     }
 
+    /**
+     * CHECK EXIST ALL
+     *
+     * @param tableName FROM table
+     * @param keyValues [ Key Value ]
+     * @param keyName   Key Name, if null ? Primary Key
+     * @param tableNum  Sharding Table Num
+     * @param result    [ EXIST ? set : clear ]
+     */
+    protected void writeLogCheckExistAll(String tableName,
+                                         List<Value> keyValues, String keyName, Integer tableNum, BitSet result) {
+        try {
+            TemplateLog logWriter = getLogWriter();
+            if (logWriter != null) {
+                logWriter.checkExistAll(tableName, keyValues, keyName, tableNum, result);
+            }
+        } catch (Throwable ignored) {
+        }
+    }
+
+    /**
+     * CHECK EXIST ALL
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param keyValues   [ Key Value ]
+     * @param keyName     Key Name, if null ? Primary Key
+     * @param result      [ EXIST ? set : clear ]
+     */
+    protected void writeLogCheckExistAll(TableSchema tableSchema,
+                                         List<Value> keyValues, String keyName, BitSet result) {
+        try {
+            TemplateLog logWriter = getLogWriter();
+            if (logWriter != null) {
+                logWriter.checkExistAll(tableSchema, keyValues, keyName, result);
+            }
+        } catch (Throwable ignored) {
+        }
+    }
+
     /**
      * INSERT
      *
@@ -0,0 +1,59 @@
+package io.github.winter.database.template;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Template Interceptor, Wraps Every Executor Call Made By The {@link Template}
+ * <p>
+ * Interceptors run in the order they were added, the first added is the outermost.
+ * {@link TemplateInvocation#getTableSchema()} is the schema of the call, or of the registry for calls made by table name only,
+ * e.g. selectCount, checkExist and the approximate counts: null if the table is not registered.
+ *
+ * @author changebooks@qq.com
+ */
+public interface TemplateInterceptor {
+    /**
+     * Intercept, call {@link TemplateInvocation#proceed()} to continue, or return a result to short-circuit
+     *
+     * @param invocation the {@link TemplateInvocation} instance
+     * @param <T>        Result Type
+     * @return Result
+     */
+    <T> T intercept(TemplateInvocation<T> invocation);
+
+    /**
+     * Capture The State Of This Thread The Interceptor Routes By, For A Call The {@link Template} Makes On Another Thread
+     *
+     * @return the {@link Context} instance, null if no state
+     */
+    @Nullable
+    default Context capture() {
+        return null;
+    }
+
+    /**
+     * Context, Captured On The Calling Thread
+     */
+    @FunctionalInterface
+    interface Context {
+        /**
+         * Attach To This Thread
+         *
+         * @return the {@link Scope} instance, close in finally
+         */
+        Scope attach();
+
+    }
+
+    /**
+     * Scope, Restores The State Of This Thread On Close
+     */
+    @FunctionalInterface
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.database.executor.Executor;
+import io.github.winter.database.table.TableSchema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Template Invocation, One Executor Call Passing Through The {@link TemplateInterceptor} Chain
+ * <p>
+ * Not thread safe, one invocation belongs to the thread that runs it.
+ *
+ * @param <T> Result Type
+ * @author changebooks@qq.com
+ */
+public final class TemplateInvocation<T> {
+    /**
+     * [ the {@link TemplateInterceptor} instance ]
+     */
+    private final List<TemplateInterceptor> interceptors;
+
+    /**
+     * the {@link OperationType} instance
+     */
+    private final OperationType type;
+
+    /**
+     * the {@link TableSchema} instance, of the registry if not passed by the call, null if not registered
+     */
+    private final TableSchema tableSchema;
+
+    /**
+     * Table Name, Without Sharding Table Num
+     */
+    private final String tableName;
+
+    /**
+     * Sharding Table Num
+     */
+    private final Integer tableNum;
+
+    /**
+     * Table Name, With Sharding Table Num
+     */
+    private final String joinedTableName;
+
+    /**
+     * the {@link SqlParameter} instance
+     */
+    private final SqlParameter sqlParameter;
+
+    /**
+     * the {@link ExecutorCall} instance
+     */
+    private final ExecutorCall<T> call;
+
+    /**
+     * the {@link Executor} instance, the call runs on
+     */
+    private Executor executor;
+
+    /**
+     * Next Interceptor
+     */
+    private int index;
+
+    public TemplateInvocation(@NotNull List<TemplateInterceptor> interceptors, @NotNull Executor executor,
+                              @NotNull OperationType type, @Nullable TableSchema tableSchema,
+                              @NotNull String tableName, @Nullable Integer tableNum, @NotNull String joinedTableName,
+                              @NotNull SqlParameter sqlParameter, @NotNull ExecutorCall<T> call) {
+        this.interceptors = interceptors;
+        this.executor = executor;
+        this.type = type;
+        this.tableSchema = tableSchema;
+        this.tableName = tableName;
+        this.tableNum = tableNum;
+        this.joinedTableName = joinedTableName;
+        this.sqlParameter = sqlParameter;
+        this.call = call;
+    }
+
+    /**
+     * Proceed, the next interceptor, or the executor after the last one
+     * <p>
+     * May be called more than once, e.g. to retry, every call continues from the same position.
+     *
+     * @return Result
+     */
+    public T proceed() {
+        int current = index;
+        if (current >= interceptors.size()) {
+            return call.call(executor, sqlParameter);
+        }
+
+        index = current + 1;
+        try {
+            return interceptors.get(current).intercept(this);
+        } finally {
+            index = current;
+        }
+    }
+
+    /**
+     * Fork, A Copy At The Same Position On Another Executor, e.g. to run it on another thread
+     *
+     * @param executor the {@link Executor} instance
+     * @return the {@link TemplateInvocation} instance
+     */
+    @NotNull
+    public TemplateInvocation<T> fork(@NotNull Executor executor) {
+        Preconditions.requireNonNull(executor, "executor must not be null");
+
+        TemplateInvocation<T> result = new TemplateInvocation<>(interceptors, executor,
+                type, tableSchema, tableName, tableNum, joinedTableName, sqlParameter, call);
+        result.index = index;
+        return result;
+    }
+
+    @NotNull
+    public OperationType getType() {
+        return type;
+    }
+
+    @Nullable
+    public TableSchema getTableSchema() {
+        return tableSchema;
+    }
+
+    @NotNull
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Nullable
+    public Integer getTableNum() {
+        return tableNum;
+    }
+
+    @NotNull
+    public String getJoinedTableName() {
+        return joinedTableName;
+    }
+
+    @NotNull
+    public SqlParameter getSqlParameter() {
+        return sqlParameter;
+    }
+
+    @NotNull
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(@NotNull Executor executor) {
+        Preconditions.requireNonNull(executor, "executor must not be null");
+
+        this.executor = executor;
+    }
+
+}
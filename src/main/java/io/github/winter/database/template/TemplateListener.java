@@ -0,0 +1,17 @@
+package io.github.winter.database.template;
+
+/**
+ * Template Listener
+ *
+ * @author changebooks@qq.com
+ */
+@FunctionalInterface
+public interface TemplateListener {
+    /**
+     * On Operation, called on the query thread after every public call, must not throw
+     *
+     * @param operation the {@link TemplateOperation} instance
+     */
+    void onOperation(TemplateOperation operation);
+
+}
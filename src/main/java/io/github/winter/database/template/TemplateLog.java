@@ -6,11 +6,14 @@ import io.github.winter.boot.filter.Page;
 import io.github.winter.boot.tuple.Value;
 import io.github.winter.database.table.TableSchema;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Template Log
+ * Template Log, Once per Logical Call
+ * <p>
+ * Timing And Failures Of Every Statement, see {@link TemplateListener}
  *
  * @author changebooks@qq.com
  */
@@ -117,6 +120,31 @@ public interface TemplateLog {
     void checkExist(String tableName,
                     List<BaseFilter> filters, Integer result);
 
+    /**
+     * CHECK EXIST ALL
+     *
+     * @param tableName FROM table
+     * @param keyValues [ Key Value ]
+     * @param keyName   Key Name, if null ? Primary Key
+     * @param tableNum  Sharding Table Num
+     * @param result    [ EXIST ? set : clear ]
+     */
+    default void checkExistAll(String tableName,
+                               List<Value> keyValues, String keyName, Integer tableNum, BitSet result) {
+    }
+
+    /**
+     * CHECK EXIST ALL
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param keyValues   [ Key Value ]
+     * @param keyName     Key Name, if null ? Primary Key
+     * @param result      [ EXIST ? set : clear ]
+     */
+    default void checkExistAll(TableSchema tableSchema,
+                               List<Value> keyValues, String keyName, BitSet result) {
+    }
+
     /**
      * INSERT
      *
@@ -0,0 +1,270 @@
+package io.github.winter.database.template;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template Operation, One Public Call Of The {@link Template}, With The Statements It Ran
+ * <p>
+ * Immutable, rendering of parameters is left to the listener that reads them.
+ * A call running several statements, e.g. the chunks of checkExistAll, a deferred join, an approximate count
+ * or the list and count of selectPage, is one operation listing every {@link TemplateStatement}.
+ *
+ * @author changebooks@qq.com
+ */
+public final class TemplateOperation {
+    /**
+     * Between The Statements Of getSql And renderParameters
+     */
+    private static final String STATEMENT_SEPARATOR = " | ";
+
+    /**
+     * Appended To Truncated Parameters
+     */
+    private static final String TRUNCATED = "...";
+
+    /**
+     * the {@link OperationType} instance
+     */
+    private final OperationType type;
+
+    /**
+     * Table Name, Without Sharding Table Num
+     */
+    private final String tableName;
+
+    /**
+     * Sharding Table Num
+     */
+    private final Integer tableNum;
+
+    /**
+     * Table Name, With Sharding Table Num
+     */
+    private final String joinedTableName;
+
+    /**
+     * [ the {@link TemplateStatement} instance ], in the order finished
+     */
+    private final List<TemplateStatement> statements;
+
+    /**
+     * Rows Read Or Affected, By The Call
+     */
+    private final long rowCount;
+
+    /**
+     * Throwable Of The Call, null if succeeded
+     */
+    private final Throwable throwable;
+
+    /**
+     * Started At, {@link System#nanoTime()}
+     */
+    private final long startNanos;
+
+    /**
+     * Elapsed Nanos, Of The Whole Call
+     */
+    private final long elapsedNanos;
+
+    public TemplateOperation(@NotNull OperationType type, @NotNull String tableName, @Nullable Integer tableNum, @NotNull String joinedTableName,
+                             @NotNull List<TemplateStatement> statements, long rowCount, @Nullable Throwable throwable,
+                             long startNanos, long elapsedNanos) {
+        this.type = type;
+        this.tableName = tableName;
+        this.tableNum = tableNum;
+        this.joinedTableName = joinedTableName;
+        this.statements = List.copyOf(statements);
+        this.rowCount = rowCount;
+        this.throwable = throwable;
+        this.startNanos = startNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Rows Read Or Affected
+     *
+     * @param result Result Of The Call Or The Statement
+     * @return List ? size : Map ? 1 : AFFECTED ROWS
+     */
+    static long rowCountOf(@Nullable Object result) {
+        if (result == null) {
+            return 0;
+        }
+
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+
+        if (result instanceof Map<?, ?> map) {
+            return map.isEmpty() ? 0 : 1;
+        }
+
+        if (result instanceof Integer affectedRows) {
+            return affectedRows;
+        }
+
+        if (result instanceof int[] affectedRows) {
+            long rowCount = 0;
+            for (int x : affectedRows) {
+                if (x > 0) {
+                    rowCount += x;
+                }
+            }
+
+            return rowCount;
+        }
+
+        if (result instanceof BitSet bitSet) {
+            return bitSet.cardinality();
+        }
+
+        if (result instanceof PageResult pageResult) {
+            return rowCountOf(pageResult.getList());
+        }
+
+        return 1;
+    }
+
+    /**
+     * Render Parameters, name = value, name = value | name = value
+     *
+     * @return Rendered Parameters Of Every Statement, rendered on every call
+     */
+    @NotNull
+    public String renderParameters() {
+        StringBuilder result = new StringBuilder();
+        render(result, Integer.MAX_VALUE);
+        return result.toString();
+    }
+
+    /**
+     * Render Parameters, Bounded, Rendering Stops Once maxLength Is Reached
+     *
+     * @param maxLength Max Length, Without The Truncation Mark
+     * @return Rendered Parameters, Truncated To maxLength Then "..." Appended If Longer
+     */
+    @NotNull
+    public String renderParameters(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative, maxLength: " + maxLength);
+        }
+
+        StringBuilder result = new StringBuilder(Math.min(maxLength, 256));
+        render(result, (int) Math.min(maxLength + 1L, Integer.MAX_VALUE));
+
+        if (result.length() > maxLength) {
+            result.setLength(maxLength);
+            result.append(TRUNCATED);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Render Parameters Of Every Statement
+     *
+     * @param result the {@link StringBuilder} instance, to append to
+     * @param limit  Stop Once The Length Reaches It
+     */
+    private void render(@NotNull StringBuilder result, int limit) {
+        for (int i = 0, size = statements.size(); i < size && result.length() < limit; i++) {
+            if (i > 0) {
+                result.append(STATEMENT_SEPARATOR);
+            }
+
+            statements.get(i).render(result, limit);
+        }
+    }
+
+    /**
+     * SQL
+     *
+     * @return SQL Of The Statement, Of Every Statement Joined If Several
+     */
+    public String getSql() {
+        if (statements.size() == 1) {
+            return statements.getFirst().getSql();
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0, size = statements.size(); i < size; i++) {
+            if (i > 0) {
+                result.append(STATEMENT_SEPARATOR);
+            }
+
+            result.append(statements.get(i).getSql());
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Parameter Names
+     *
+     * @return [ Parameter Name ], Of The First Statement
+     */
+    @NotNull
+    public List<String> getParameterNames() {
+        return statements.isEmpty() ? List.of() : statements.getFirst().getParameterNames();
+    }
+
+    public boolean isSuccess() {
+        return throwable == null;
+    }
+
+    @NotNull
+    public OperationType getType() {
+        return type;
+    }
+
+    @NotNull
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Nullable
+    public Integer getTableNum() {
+        return tableNum;
+    }
+
+    @NotNull
+    public String getJoinedTableName() {
+        return joinedTableName;
+    }
+
+    @NotNull
+    public List<TemplateStatement> getStatements() {
+        return statements;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateOperation{type=" + type + ", joinedTableName=" + joinedTableName + ", statements=" + statements.size() +
+                ", elapsedNanos=" + elapsedNanos + ", success=" + isSuccess() + "}";
+    }
+
+}
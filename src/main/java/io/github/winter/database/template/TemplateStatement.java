@@ -0,0 +1,242 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.template.value.KeyValues;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template Statement, One Statement Run By The {@link io.github.winter.database.executor.Executor}
+ * <p>
+ * Immutable, the sql and parameters are copied from the {@link SqlParameter} on construction,
+ * rendering of parameters is left to the listener that reads them.
+ *
+ * @author changebooks@qq.com
+ */
+public final class TemplateStatement {
+    /**
+     * Table Name, With Sharding Table Num
+     */
+    private final String joinedTableName;
+
+    /**
+     * SQL
+     */
+    private final String sql;
+
+    /**
+     * [ Parameter Name ]
+     */
+    private final List<String> parameterNames;
+
+    /**
+     * [ Parameter Name : Parameter Value ], null if batch
+     */
+    private final Map<String, Value> parameters;
+
+    /**
+     * [ [ Parameter Name : Parameter Value ] ], null if not batch
+     */
+    private final List<Map<String, Value>> parametersList;
+
+    /**
+     * Rows Read Or Affected
+     */
+    private final long rowCount;
+
+    /**
+     * Executor Throwable, null if succeeded
+     */
+    private final Throwable throwable;
+
+    /**
+     * Started At, {@link System#nanoTime()}
+     */
+    private final long startNanos;
+
+    /**
+     * Elapsed Nanos
+     */
+    private final long elapsedNanos;
+
+    public TemplateStatement(@NotNull String joinedTableName, @NotNull SqlParameter sqlParameter,
+                             long rowCount, @Nullable Throwable throwable, long startNanos, long elapsedNanos) {
+        this.joinedTableName = joinedTableName;
+        this.sql = sqlParameter.getSql();
+        this.parameterNames = copyOf(sqlParameter.getParameterNames());
+        this.parameters = copyOf(sqlParameter.getParameters());
+        this.parametersList = copyOfList(sqlParameter.getParametersList());
+        this.rowCount = rowCount;
+        this.throwable = throwable;
+        this.startNanos = startNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Render Parameters, name = value, name = value
+     *
+     * @return Rendered Parameters, rendered on every call
+     */
+    @NotNull
+    public String renderParameters() {
+        StringBuilder result = new StringBuilder();
+        render(result, Integer.MAX_VALUE);
+        return result.toString();
+    }
+
+    /**
+     * Render Parameters, name = value, name = value; name = value, name = value
+     *
+     * @param result the {@link StringBuilder} instance, to append to
+     * @param limit  Stop Once The Length Reaches It, The Last Value Appended Whole
+     */
+    void render(@NotNull StringBuilder result, int limit) {
+        if (parameterNames.isEmpty()) {
+            return;
+        }
+
+        if (parametersList != null) {
+            boolean first = true;
+            for (Map<String, Value> values : parametersList) {
+                if (result.length() >= limit) {
+                    return;
+                }
+
+                if (!first) {
+                    result.append("; ");
+                }
+
+                first = false;
+                render(result, parameterNames, values, limit);
+            }
+        } else {
+            render(result, parameterNames, parameters, limit);
+        }
+    }
+
+    public boolean isSuccess() {
+        return throwable == null;
+    }
+
+    @NotNull
+    public String getJoinedTableName() {
+        return joinedTableName;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    @NotNull
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    @Nullable
+    public Map<String, Value> getParameters() {
+        return parameters;
+    }
+
+    @Nullable
+    public List<Map<String, Value>> getParametersList() {
+        return parametersList;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateStatement{joinedTableName=" + joinedTableName + ", elapsedNanos=" + elapsedNanos + ", success=" + isSuccess() + "}";
+    }
+
+    /**
+     * Render Parameters
+     *
+     * @param result         the {@link StringBuilder} instance
+     * @param parameterNames [ Parameter Name ]
+     * @param parameters     [ Parameter Name : Parameter Value ]
+     * @param limit          Stop Once The Length Reaches It
+     */
+    private static void render(StringBuilder result, List<String> parameterNames, Map<String, Value> parameters, int limit) {
+        boolean first = true;
+
+        for (String parameterName : parameterNames) {
+            if (result.length() >= limit) {
+                return;
+            }
+
+            if (!first) {
+                result.append(", ");
+            }
+
+            first = false;
+            Value value = parameters != null ? parameters.get(parameterName) : null;
+            result.append(parameterName).append(" = ").append(KeyValues.keyOf(value));
+        }
+    }
+
+    /**
+     * Copy
+     *
+     * @param parameterNames [ Parameter Name ]
+     * @return [ Parameter Name ], Unmodifiable, Empty If Null
+     */
+    @NotNull
+    private static List<String> copyOf(List<String> parameterNames) {
+        return parameterNames != null ? Collections.unmodifiableList(new ArrayList<>(parameterNames)) : List.of();
+    }
+
+    /**
+     * Copy
+     *
+     * @param parameters [ Parameter Name : Parameter Value ]
+     * @return [ Parameter Name : Parameter Value ], Unmodifiable, null if null
+     */
+    @Nullable
+    private static Map<String, Value> copyOf(Map<String, Value> parameters) {
+        return parameters != null ? Collections.unmodifiableMap(new HashMap<>(parameters)) : null;
+    }
+
+    /**
+     * Copy
+     *
+     * @param parametersList [ [ Parameter Name : Parameter Value ] ]
+     * @return [ [ Parameter Name : Parameter Value ] ], Unmodifiable, null if null
+     */
+    @Nullable
+    private static List<Map<String, Value>> copyOfList(List<Map<String, Value>> parametersList) {
+        if (parametersList == null) {
+            return null;
+        }
+
+        List<Map<String, Value>> result = new ArrayList<>(parametersList.size());
+        for (Map<String, Value> parameters : parametersList) {
+            result.add(copyOf(parameters));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+}
@@ -0,0 +1,160 @@
+package io.github.winter.database.template.deadline;
+
+import io.github.winter.boot.sql.Preconditions;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline, A Point In Time The Calls Of This Thread Must End By
+ * <p>
+ * Set for a scope with {@link #within(Duration)}, a nested scope can only shorten it.
+ *
+ * @author changebooks@qq.com
+ */
+public final class Deadline {
+    /**
+     * Deadline Of This Thread
+     */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Expires At Nanos, {@link System#nanoTime()}
+     */
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Deadline After Timeout, From Now
+     *
+     * @param timeout Timeout
+     * @return the {@link Deadline} instance
+     */
+    @NotNull
+    public static Deadline after(@NotNull Duration timeout) {
+        Preconditions.requireNonNull(timeout, "timeout must not be null");
+
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Deadline Of This Thread
+     *
+     * @return the {@link Deadline} instance, null if none
+     */
+    @Nullable
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Scope With A Deadline After Timeout
+     *
+     * @param timeout Timeout
+     * @return the {@link Scope} instance, close in finally
+     */
+    @NotNull
+    public static Scope within(@NotNull Duration timeout) {
+        return within(after(timeout));
+    }
+
+    /**
+     * Scope With A Deadline, The Earlier Of It And The Enclosing One
+     *
+     * @param deadline the {@link Deadline} instance, null ? Keep The Enclosing One
+     * @return the {@link Scope} instance, close in finally
+     */
+    @NotNull
+    public static Scope within(@Nullable Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        Deadline effective = earlier(previous, deadline);
+        if (effective == null) {
+            return () -> {
+            };
+        }
+
+        CURRENT.set(effective);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Earlier
+     *
+     * @param a the {@link Deadline} instance, Nullable
+     * @param b the {@link Deadline} instance, Nullable
+     * @return the earlier, null if both null
+     */
+    @Nullable
+    public static Deadline earlier(@Nullable Deadline a, @Nullable Deadline b) {
+        if (a == null) {
+            return b;
+        }
+
+        if (b == null) {
+            return a;
+        }
+
+        return a.expiresAtNanos - b.expiresAtNanos <= 0 ? a : b;
+    }
+
+    /**
+     * Remaining Nanos
+     *
+     * @return Nanos, Not Positive If Expired
+     */
+    public long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    /**
+     * Remaining Seconds, Rounded Up, For {@link java.sql.Statement#setQueryTimeout(int)}
+     *
+     * @return Seconds, At Least 1
+     */
+    public int remainingSeconds() {
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            return 1;
+        }
+
+        long seconds = (remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Expired ?
+     *
+     * @return expired ? true : false
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Scope, Restores The Enclosing Deadline On Close
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remainingMillis=" + TimeUnit.NANOSECONDS.toMillis(remainingNanos()) + "}";
+    }
+
+}
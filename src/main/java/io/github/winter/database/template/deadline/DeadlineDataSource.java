@@ -0,0 +1,193 @@
+package io.github.winter.database.template.deadline;
+
+import io.github.winter.boot.sql.Preconditions;
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+/**
+ * Deadline DataSource, Build The {@link io.github.winter.database.executor.Executor} On It
+ * <p>
+ * Every statement run under a {@link Deadline} gets the remaining time as its query timeout,
+ * is refused once the deadline has passed, and is cancelled when the thread running it is interrupted
+ * or the deadline passes, by the {@link StatementWatchdog}.
+ *
+ * @author changebooks@qq.com
+ */
+public class DeadlineDataSource implements DataSource {
+    /**
+     * the {@link DataSource} instance, Wrapped
+     */
+    private final DataSource dataSource;
+
+    public DeadlineDataSource(@NotNull DataSource dataSource) {
+        Preconditions.requireNonNull(dataSource, "dataSource must not be null");
+
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(dataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+
+    /**
+     * Wrap Connection, Its Statements Are Wrapped
+     *
+     * @param connection the {@link Connection} instance
+     * @return the {@link Connection} instance
+     */
+    protected Connection wrapConnection(Connection connection) {
+        if (connection == null) {
+            return null;
+        }
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrapStatement(statement, method.getReturnType());
+            }
+
+            return result;
+        };
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Wrap Statement, Timeout, Refusal And Cancellation By The {@link Deadline}
+     * <p>
+     * The query timeout set by the caller is restored after every execute, a reused statement does not keep the deadline's.
+     *
+     * @param statement the {@link Statement} instance
+     * @param type      Statement, PreparedStatement Or CallableStatement
+     * @return the {@link Statement} instance
+     */
+    protected Statement wrapStatement(Statement statement, Class<?> type) {
+        int[] queryTimeout = new int[1];
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if ("setQueryTimeout".equals(name)) {
+                queryTimeout[0] = (Integer) args[0];
+                return invoke(statement, method, args);
+            }
+
+            if (!name.startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+
+            Deadline deadline = Deadline.current();
+            if (deadline != null) {
+                if (deadline.isExpired()) {
+                    throw new SQLTimeoutException("deadline exceeded");
+                }
+
+                int remaining = deadline.remainingSeconds();
+                statement.setQueryTimeout(queryTimeout[0] > 0 ? Math.min(queryTimeout[0], remaining) : remaining);
+            }
+
+            StatementWatchdog.watch(statement, deadline);
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                StatementWatchdog.unwatch(statement);
+                if (deadline != null) {
+                    restoreQueryTimeout(statement, queryTimeout[0]);
+                }
+            }
+        };
+
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Restore The Query Timeout Set By The Caller, Never Throw, The Outcome Of The Execute Wins
+     *
+     * @param statement    the {@link Statement} instance
+     * @param queryTimeout Seconds, 0 ? No Limit
+     */
+    private static void restoreQueryTimeout(Statement statement, int queryTimeout) {
+        try {
+            if (!statement.isClosed()) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+        } catch (SQLException ignored) {
+            // closed or broken, nothing to restore
+        }
+    }
+
+    /**
+     * Invoke, Unwrap The Thrown
+     *
+     * @param target the target instance
+     * @param method the {@link Method} instance
+     * @param args   Arguments
+     * @return Result
+     * @throws Throwable thrown by the target
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @NotNull
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+}
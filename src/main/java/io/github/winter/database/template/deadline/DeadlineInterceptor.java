@@ -0,0 +1,38 @@
+package io.github.winter.database.template.deadline;
+
+import io.github.winter.database.template.TemplateInterceptor;
+import io.github.winter.database.template.TemplateInvocation;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deadline Interceptor, Skips The Call Once The {@link Deadline} Of The Thread Has Passed
+ * <p>
+ * The statement timeout and cancellation are applied by the {@link DeadlineDataSource} the executor runs on.
+ *
+ * @author changebooks@qq.com
+ */
+public class DeadlineInterceptor implements TemplateInterceptor {
+    /**
+     * Calls Skipped
+     */
+    private final LongAdder expiredCount = new LongAdder();
+
+    @Override
+    public <T> T intercept(TemplateInvocation<T> invocation) {
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            expiredCount.increment();
+            throw new QueryTimeoutException("deadline exceeded, tableName: " + invocation.getJoinedTableName() +
+                    ", type: " + invocation.getType());
+        }
+
+        return invocation.proceed();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.winter.database.template.deadline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statement Watchdog, Cancels A Running Statement Whose Thread Was Interrupted Or Whose {@link Deadline} Passed
+ * <p>
+ * One daemon thread checks every TICK_MILLIS, finer than the whole seconds of a query timeout.
+ *
+ * @author changebooks@qq.com
+ */
+final class StatementWatchdog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementWatchdog.class);
+
+    /**
+     * Check Every
+     */
+    private static final long TICK_MILLIS = 20;
+
+    /**
+     * [ the {@link Statement} instance : the {@link Watch} instance ], Running
+     */
+    private static final Map<Statement, Watch> RUNNING = new ConcurrentHashMap<>();
+
+    static {
+        ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("template-statement-watchdog")
+                .daemon(true)
+                .factory());
+        executorService.scheduleWithFixedDelay(StatementWatchdog::check, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private StatementWatchdog() {
+    }
+
+    /**
+     * Watch
+     *
+     * @param thread   the {@link Thread} instance, running the statement
+     * @param deadline the {@link Deadline} instance, null if none
+     */
+    private record Watch(Thread thread, Deadline deadline) {
+    }
+
+    /**
+     * Watch, Until {@link #unwatch(Statement)}
+     *
+     * @param statement the {@link Statement} instance
+     * @param deadline  the {@link Deadline} instance, null if none
+     */
+    static void watch(Statement statement, Deadline deadline) {
+        RUNNING.put(statement, new Watch(Thread.currentThread(), deadline));
+    }
+
+    /**
+     * Unwatch
+     *
+     * @param statement the {@link Statement} instance
+     */
+    static void unwatch(Statement statement) {
+        RUNNING.remove(statement);
+    }
+
+    /**
+     * Check, Cancel The Interrupted And The Expired
+     */
+    private static void check() {
+        for (Map.Entry<Statement, Watch> entry : RUNNING.entrySet()) {
+            Watch watch = entry.getValue();
+            Deadline deadline = watch.deadline();
+
+            boolean expired = deadline != null && deadline.isExpired();
+            if (!expired && !watch.thread().isInterrupted()) {
+                continue;
+            }
+
+            Statement statement = entry.getKey();
+            if (!RUNNING.remove(statement, watch)) {
+                continue;
+            }
+
+            try {
+                statement.cancel();
+                LOGGER.warn("check cancelled, expired: {}, thread: {}", expired, watch.thread());
+            } catch (Throwable ex) {
+                LOGGER.error("check failed, thread: {}, throwable: ", watch.thread(), ex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,375 @@
+package io.github.winter.database.template.limit;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 自适应并发限制, Gradient
+ * <p>
+ * The limit follows limit * clamp(tolerance * longRtt / shortRtt, 0.5, 1.0) + sqrt(limit), smoothed:
+ * it shrinks as latency rises above the long-term average and grows by a small queue while latency holds.
+ * Over the limit, a call waits up to maxQueueWait in a queue of maxQueueSize, otherwise it is rejected at once.
+ * The queue is first come first served: while anyone waits, a new call queues behind them.
+ * Samples are aggregated per window of WINDOW_SAMPLES calls without a lock, the limit moves once per window.
+ *
+ * @author changebooks@qq.com
+ */
+public class ConcurrencyLimit {
+    /**
+     * Default Initial Limit
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /**
+     * Default Min Limit
+     */
+    public static final int DEFAULT_MIN_LIMIT = 4;
+
+    /**
+     * Default Max Limit
+     */
+    public static final int DEFAULT_MAX_LIMIT = 500;
+
+    /**
+     * Latency Rise Tolerated Before Shrinking
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Weight Of A New Limit
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Samples per Window
+     */
+    private static final int WINDOW_SAMPLES = 32;
+
+    /**
+     * Windows In The Long Rtt Average
+     */
+    private static final int LONG_WINDOW = 20;
+
+    /**
+     * Min Limit
+     */
+    private final int minLimit;
+
+    /**
+     * Max Limit
+     */
+    private final int maxLimit;
+
+    /**
+     * In Flight
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Waiters Lock
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * [ the {@link Condition} instance ], One per Waiter, In Arrival Order, Guarded By lock
+     */
+    private final ArrayDeque<Condition> waiters = new ArrayDeque<>();
+
+    /**
+     * Waiting, Written Under lock
+     */
+    private volatile int waiting;
+
+    /**
+     * the {@link SampleWindow} instance, Of The Current Window
+     */
+    private final AtomicReference<SampleWindow> window = new AtomicReference<>(new SampleWindow());
+
+    /**
+     * Limit, Written Under this
+     */
+    private volatile double limit;
+
+    /**
+     * Long Rtt Nanos, Guarded By this
+     */
+    private double longRttNanos;
+
+    /**
+     * Windows, Guarded By this
+     */
+    private long windowCount;
+
+    /**
+     * Max Queue Wait Nanos, 0 ? Reject Fast
+     */
+    private volatile long maxQueueWaitNanos;
+
+    /**
+     * Max Queue Size
+     */
+    private volatile int maxQueueSize;
+
+    /**
+     * Rejected
+     */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ConcurrencyLimit() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    public ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0) {
+            throw new IllegalArgumentException("minLimit must be greater than 0, minLimit: " + minLimit);
+        }
+
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit must not be less than minLimit, maxLimit: " + maxLimit + ", minLimit: " + minLimit);
+        }
+
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be in [minLimit, maxLimit], initialLimit: " + initialLimit);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Acquire, Queue Up To maxQueueWait When Over The Limit
+     *
+     * @return acquired ? true : false, rejected
+     */
+    public boolean acquire() {
+        if (waiting == 0 && tryAcquire()) {
+            return true;
+        }
+
+        long waitNanos = maxQueueWaitNanos;
+        if (waitNanos <= 0) {
+            if (tryAcquire()) {
+                return true;
+            }
+
+            rejectedCount.increment();
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (waiters.size() >= maxQueueSize) {
+                rejectedCount.increment();
+                return false;
+            }
+
+            Condition turn = lock.newCondition();
+            waiters.addLast(turn);
+            waiting = waiters.size();
+            try {
+                long remaining = waitNanos;
+                while (waiters.peekFirst() != turn || !tryAcquire()) {
+                    if (remaining <= 0) {
+                        rejectedCount.increment();
+                        return false;
+                    }
+
+                    remaining = turn.awaitNanos(remaining);
+                }
+
+                return true;
+            } finally {
+                boolean first = waiters.peekFirst() == turn;
+                waiters.remove(turn);
+                waiting = waiters.size();
+
+                if (first) {
+                    signalFirst();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            rejectedCount.increment();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release, After An Acquired Call
+     *
+     * @param rttNanos Latency Of The Call, Negative ? Failed, Not Sampled
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos >= 0) {
+            onSample(rttNanos, current);
+        }
+
+        if (waiting > 0) {
+            lock.lock();
+            try {
+                signalFirst();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Signal The First Waiter, Under lock
+     */
+    private void signalFirst() {
+        Condition first = waiters.peekFirst();
+        if (first != null) {
+            first.signal();
+        }
+    }
+
+    /**
+     * Acquire Below The Limit, Lock Free
+     *
+     * @return acquired ? true : false
+     */
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sample, Lock Free, The Last Sample Of A Window Moves The Limit
+     *
+     * @param rttNanos Latency
+     * @param inFlight In Flight, When The Call Ended
+     */
+    private void onSample(long rttNanos, int inFlight) {
+        SampleWindow current = window.get();
+        current.rttSum.add(rttNanos);
+        current.maxInFlight.accumulate(inFlight);
+
+        if (current.count.incrementAndGet() == WINDOW_SAMPLES && window.compareAndSet(current, new SampleWindow())) {
+            int count = current.count.get();
+            onWindow(current.rttSum.sum() / count, (int) current.maxInFlight.get());
+        }
+    }
+
+    /**
+     * Window, Move The Limit
+     *
+     * @param rttNanos Mean Latency Of The Window
+     * @param inFlight Max In Flight Of The Window, When The Calls Ended
+     */
+    private synchronized void onWindow(long rttNanos, int inFlight) {
+        double shortRtt = Math.max(rttNanos, 1L);
+
+        windowCount++;
+        double weight = 1.0 / Math.min(windowCount, LONG_WINDOW);
+        longRttNanos = longRttNanos + (shortRtt - longRttNanos) * weight;
+
+        if (longRttNanos / shortRtt > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public long getMaxQueueWait(TimeUnit unit) {
+        return unit.convert(maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Set Queue, 0 ? Reject Fast
+     *
+     * @param maxQueueSize Max Waiting
+     * @param maxQueueWait Max Wait
+     * @param unit         the {@link TimeUnit} instance
+     */
+    public void setQueue(int maxQueueSize, long maxQueueWait, TimeUnit unit) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative, maxQueueSize: " + maxQueueSize);
+        }
+
+        if (maxQueueWait < 0) {
+            throw new IllegalArgumentException("maxQueueWait must not be negative, maxQueueWait: " + maxQueueWait);
+        }
+
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWaitNanos = maxQueueSize > 0 ? unit.toNanos(maxQueueWait) : 0;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Sample Window, Added To Concurrently
+     */
+    private static final class SampleWindow {
+        /**
+         * Sum Of Latency Nanos
+         */
+        private final LongAdder rttSum = new LongAdder();
+
+        /**
+         * Max In Flight
+         */
+        private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Samples
+         */
+        private final AtomicInteger count = new AtomicInteger();
+
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimit{limit=" + getLimit() + ", inFlight=" + getInFlight() + ", rejected=" + getRejectedCount() + "}";
+    }
+
+}
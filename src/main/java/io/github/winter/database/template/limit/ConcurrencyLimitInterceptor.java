@@ -0,0 +1,144 @@
+package io.github.winter.database.template.limit;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import io.github.winter.database.template.TemplateInterceptor;
+import io.github.winter.database.template.TemplateInvocation;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 准入控制
+ * <p>
+ * One {@link ConcurrencyLimit} per executor, i.e. per datasource, and one per table, without sharding table num.
+ * Add after routing interceptors, so the executor is the one the call really runs on.
+ * A call over either limit throws {@link RejectedExecutionException}, without reaching the database.
+ *
+ * @author changebooks@qq.com
+ */
+public class ConcurrencyLimitInterceptor implements TemplateInterceptor {
+    /**
+     * [ the {@link Executor} instance : the {@link ConcurrencyLimit} instance ]
+     */
+    private final Map<Executor, ConcurrencyLimit> dataSourceLimits = new ConcurrentHashMap<>();
+
+    /**
+     * [ Table Name : the {@link ConcurrencyLimit} instance ]
+     */
+    private final Map<String, ConcurrencyLimit> tableLimits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates A Datasource Limit
+     */
+    private final Supplier<ConcurrencyLimit> dataSourceLimitFactory;
+
+    /**
+     * Creates A Table Limit, null ? No Table Limit
+     */
+    private final Supplier<ConcurrencyLimit> tableLimitFactory;
+
+    public ConcurrencyLimitInterceptor() {
+        this(ConcurrencyLimit::new, null);
+    }
+
+    public ConcurrencyLimitInterceptor(@NotNull Supplier<ConcurrencyLimit> dataSourceLimitFactory,
+                                       @Nullable Supplier<ConcurrencyLimit> tableLimitFactory) {
+        Preconditions.requireNonNull(dataSourceLimitFactory, "dataSourceLimitFactory must not be null");
+
+        this.dataSourceLimitFactory = dataSourceLimitFactory;
+        this.tableLimitFactory = tableLimitFactory;
+    }
+
+    @Override
+    public <T> T intercept(TemplateInvocation<T> invocation) {
+        ConcurrencyLimit dataSourceLimit = getDataSourceLimit(invocation.getExecutor());
+        if (!dataSourceLimit.acquire()) {
+            throw new RejectedExecutionException("over the datasource limit, tableName: " + invocation.getJoinedTableName() +
+                    ", limit: " + dataSourceLimit.getLimit());
+        }
+
+        long rttNanos = -1;
+        try {
+            ConcurrencyLimit tableLimit = getTableLimit(invocation.getTableName());
+            if (tableLimit == null) {
+                long startNanos = System.nanoTime();
+                T result = invocation.proceed();
+                rttNanos = System.nanoTime() - startNanos;
+                return result;
+            }
+
+            if (!tableLimit.acquire()) {
+                throw new RejectedExecutionException("over the table limit, tableName: " + invocation.getJoinedTableName() +
+                        ", limit: " + tableLimit.getLimit());
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                T result = invocation.proceed();
+                rttNanos = System.nanoTime() - startNanos;
+                return result;
+            } finally {
+                tableLimit.release(rttNanos);
+            }
+        } finally {
+            dataSourceLimit.release(rttNanos);
+        }
+    }
+
+    /**
+     * Get Datasource Limit, Created On First Use
+     *
+     * @param executor the {@link Executor} instance
+     * @return the {@link ConcurrencyLimit} instance
+     */
+    @NotNull
+    public ConcurrencyLimit getDataSourceLimit(@NotNull Executor executor) {
+        return dataSourceLimits.computeIfAbsent(executor, k -> dataSourceLimitFactory.get());
+    }
+
+    /**
+     * Get Table Limit, Created On First Use
+     *
+     * @param tableName Table Name, Without Sharding Table Num
+     * @return the {@link ConcurrencyLimit} instance, null if no table limit
+     */
+    @Nullable
+    public ConcurrencyLimit getTableLimit(@NotNull String tableName) {
+        if (tableLimitFactory == null) {
+            return null;
+        }
+
+        return tableLimits.computeIfAbsent(tableName, k -> tableLimitFactory.get());
+    }
+
+    /**
+     * Rejected, Of All Limits
+     *
+     * @return Rejected Count
+     */
+    public long getRejectedCount() {
+        long result = 0;
+
+        for (ConcurrencyLimit limit : dataSourceLimits.values()) {
+            result += limit.getRejectedCount();
+        }
+
+        for (ConcurrencyLimit limit : tableLimits.values()) {
+            result += limit.getRejectedCount();
+        }
+
+        return result;
+    }
+
+    @NotNull
+    public Map<String, ConcurrencyLimit> getTableLimits() {
+        return Collections.unmodifiableMap(tableLimits);
+    }
+
+}
@@ -0,0 +1,627 @@
+package io.github.winter.database.template.log;
+
+import io.github.winter.boot.filter.BaseFilter;
+import io.github.winter.boot.filter.Order;
+import io.github.winter.boot.filter.Page;
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.TemplateLog;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 异步写日志
+ * <p>
+ * Events are put on a bounded {@link RingBuffer} and written by one background thread,
+ * the query thread never waits for the log writer unless {@link OverflowPolicy#BLOCK}.
+ * <p>
+ * Events are admitted first, by capacity, sampling and closing, and only an admitted event is copied:
+ * lists, maps, pages, bit sets and arrays are copied before the call returns, the caller may reuse them.
+ * The elements, {@link Value}, {@link BaseFilter} and {@link Order}, are not copied,
+ * they must not be changed after the call, or the log shows the changed state.
+ *
+ * @author changebooks@qq.com
+ */
+public final class AsyncTemplateLog implements TemplateLog, AutoCloseable {
+    /**
+     * Default Capacity
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Default 1 of every 16 events kept above the high water mark
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 16;
+
+    /**
+     * Idle Park Nanos
+     */
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(10).toNanos();
+
+    /**
+     * Block Park Nanos
+     */
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+
+    /**
+     * the {@link TemplateLog} instance, written on the background thread
+     */
+    private final TemplateLog delegate;
+
+    /**
+     * the {@link RingBuffer} instance
+     */
+    private final RingBuffer<Runnable> ringBuffer;
+
+    /**
+     * the {@link OverflowPolicy} instance
+     */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Keep 1 of every sampleRate events above the high water mark
+     */
+    private final int sampleRate;
+
+    /**
+     * 3 / 4 of capacity
+     */
+    private final int highWaterMark;
+
+    /**
+     * Background Thread
+     */
+    private final Thread worker;
+
+    /**
+     * Events Seen Above The High Water Mark
+     */
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    /**
+     * Dropped, Buffer Full
+     */
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Dropped, Sampled Out
+     */
+    private final LongAdder sampledCount = new LongAdder();
+
+    /**
+     * Written
+     */
+    private final LongAdder writtenCount = new LongAdder();
+
+    /**
+     * Delegate Threw
+     */
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * Producers Between Admission And Offer, close Waits For Them
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    /**
+     * Closed ?
+     */
+    private volatile boolean closed;
+
+    public AsyncTemplateLog(TemplateLog delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.DROP, DEFAULT_SAMPLE_RATE);
+    }
+
+    public AsyncTemplateLog(TemplateLog delegate, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+        Preconditions.requireNonNull(delegate, "delegate must not be null");
+        Preconditions.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be greater than 0, sampleRate: " + sampleRate);
+        }
+
+        this.delegate = delegate;
+        this.ringBuffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.highWaterMark = ringBuffer.capacity() - (ringBuffer.capacity() >> 2);
+        this.worker = Thread.ofPlatform()
+                .name("template-log-dispatcher")
+                .daemon(true)
+                .start(this::drain);
+    }
+
+    @Override
+    public void selectList(String tableName,
+                           List<BaseFilter> filters, List<Order> orders, Page page, Integer tableNum, List<Map<String, Value>> result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            List<Order> ordersSnapshot = snapshot(orders);
+            Page pageSnapshot = snapshot(page);
+            List<Map<String, Value>> resultSnapshot = snapshotRows(result);
+            return () -> delegate.selectList(tableName, filtersSnapshot, ordersSnapshot, pageSnapshot, tableNum, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void selectList(TableSchema tableSchema,
+                           List<BaseFilter> filters, List<Order> orders, Page page, List<Map<String, Value>> result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            List<Order> ordersSnapshot = snapshot(orders);
+            Page pageSnapshot = snapshot(page);
+            List<Map<String, Value>> resultSnapshot = snapshotRows(result);
+            return () -> delegate.selectList(tableSchema, filtersSnapshot, ordersSnapshot, pageSnapshot, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void selectCount(String tableName,
+                            List<BaseFilter> filters, Integer tableNum, long result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.selectCount(tableName, filtersSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void selectCount(String tableName,
+                            List<BaseFilter> filters, Long result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.selectCount(tableName, filtersSnapshot, result);
+        });
+    }
+
+    @Override
+    public void selectOne(String tableName,
+                          Value keyValue, String keyName, Integer tableNum, Map<String, Value> result) {
+        dispatch(() -> {
+            Map<String, Value> resultSnapshot = snapshot(result);
+            return () -> delegate.selectOne(tableName, keyValue, keyName, tableNum, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void selectOne(String tableName,
+                          List<BaseFilter> filters, List<Order> orders, Integer tableNum, Map<String, Value> result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            List<Order> ordersSnapshot = snapshot(orders);
+            Map<String, Value> resultSnapshot = snapshot(result);
+            return () -> delegate.selectOne(tableName, filtersSnapshot, ordersSnapshot, tableNum, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void selectOne(TableSchema tableSchema,
+                          List<BaseFilter> filters, List<Order> orders, Map<String, Value> result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            List<Order> ordersSnapshot = snapshot(orders);
+            Map<String, Value> resultSnapshot = snapshot(result);
+            return () -> delegate.selectOne(tableSchema, filtersSnapshot, ordersSnapshot, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void checkExist(String tableName,
+                           List<BaseFilter> filters, Integer tableNum, boolean result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.checkExist(tableName, filtersSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void checkExist(String tableName,
+                           List<BaseFilter> filters, Integer result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.checkExist(tableName, filtersSnapshot, result);
+        });
+    }
+
+    @Override
+    public void checkExistAll(String tableName,
+                              List<Value> keyValues, String keyName, Integer tableNum, BitSet result) {
+        dispatch(() -> {
+            List<Value> keyValuesSnapshot = snapshot(keyValues);
+            BitSet resultSnapshot = snapshot(result);
+            return () -> delegate.checkExistAll(tableName, keyValuesSnapshot, keyName, tableNum, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void checkExistAll(TableSchema tableSchema,
+                              List<Value> keyValues, String keyName, BitSet result) {
+        dispatch(() -> {
+            List<Value> keyValuesSnapshot = snapshot(keyValues);
+            BitSet resultSnapshot = snapshot(result);
+            return () -> delegate.checkExistAll(tableSchema, keyValuesSnapshot, keyName, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void insert(String tableName,
+                       Map<String, Value> values, Integer tableNum, int result) {
+        dispatch(() -> {
+            Map<String, Value> valuesSnapshot = snapshot(values);
+            return () -> delegate.insert(tableName, valuesSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void insert(TableSchema tableSchema,
+                       Map<String, Value> values, int result) {
+        dispatch(() -> {
+            Map<String, Value> valuesSnapshot = snapshot(values);
+            return () -> delegate.insert(tableSchema, valuesSnapshot, result);
+        });
+    }
+
+    @Override
+    public void batchInsert(String tableName,
+                            List<Map<String, Value>> list, Integer tableNum, int result) {
+        dispatch(() -> {
+            List<Map<String, Value>> listSnapshot = snapshotRows(list);
+            return () -> delegate.batchInsert(tableName, listSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void batchInsert(TableSchema tableSchema,
+                            List<Map<String, Value>> list, int result) {
+        dispatch(() -> {
+            List<Map<String, Value>> listSnapshot = snapshotRows(list);
+            return () -> delegate.batchInsert(tableSchema, listSnapshot, result);
+        });
+    }
+
+    @Override
+    public void update(String tableName,
+                       Value keyValue, List<String> sets, Map<String, Value> setValues, String keyName, Integer tableNum, int result) {
+        dispatch(() -> {
+            List<String> setsSnapshot = snapshot(sets);
+            Map<String, Value> setValuesSnapshot = snapshot(setValues);
+            return () -> delegate.update(tableName, keyValue, setsSnapshot, setValuesSnapshot, keyName, tableNum, result);
+        });
+    }
+
+    @Override
+    public void update(String tableName,
+                       List<String> sets, Map<String, Value> setValues, List<BaseFilter> filters, Integer tableNum, int result) {
+        dispatch(() -> {
+            List<String> setsSnapshot = snapshot(sets);
+            Map<String, Value> setValuesSnapshot = snapshot(setValues);
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.update(tableName, setsSnapshot, setValuesSnapshot, filtersSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void update(String tableName,
+                       List<String> sets, List<String> setNames, Map<String, Value> setValues, List<BaseFilter> filters, int result) {
+        dispatch(() -> {
+            List<String> setsSnapshot = snapshot(sets);
+            List<String> setNamesSnapshot = snapshot(setNames);
+            Map<String, Value> setValuesSnapshot = snapshot(setValues);
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.update(tableName, setsSnapshot, setNamesSnapshot, setValuesSnapshot, filtersSnapshot, result);
+        });
+    }
+
+    @Override
+    public void batchUpdate(String tableName,
+                            List<String> sets, List<String> setNames, List<Map<String, Value>> list, String keyName, Integer tableNum, int[] result) {
+        dispatch(() -> {
+            List<String> setsSnapshot = snapshot(sets);
+            List<String> setNamesSnapshot = snapshot(setNames);
+            List<Map<String, Value>> listSnapshot = snapshotRows(list);
+            int[] resultSnapshot = snapshot(result);
+            return () -> delegate.batchUpdate(tableName, setsSnapshot, setNamesSnapshot, listSnapshot, keyName, tableNum, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void batchUpdate(TableSchema tableSchema,
+                            List<String> sets, List<String> setNames, List<Map<String, Value>> list, String keyName, int[] result) {
+        dispatch(() -> {
+            List<String> setsSnapshot = snapshot(sets);
+            List<String> setNamesSnapshot = snapshot(setNames);
+            List<Map<String, Value>> listSnapshot = snapshotRows(list);
+            int[] resultSnapshot = snapshot(result);
+            return () -> delegate.batchUpdate(tableSchema, setsSnapshot, setNamesSnapshot, listSnapshot, keyName, resultSnapshot);
+        });
+    }
+
+    @Override
+    public void delete(String tableName,
+                       Value keyValue, String keyName, Integer tableNum, int result) {
+        dispatch(() -> () -> delegate.delete(tableName, keyValue, keyName, tableNum, result));
+    }
+
+    @Override
+    public void delete(String tableName,
+                       List<BaseFilter> filters, Integer tableNum, int result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.delete(tableName, filtersSnapshot, tableNum, result);
+        });
+    }
+
+    @Override
+    public void delete(String tableName,
+                       List<BaseFilter> filters, int result) {
+        dispatch(() -> {
+            List<BaseFilter> filtersSnapshot = snapshot(filters);
+            return () -> delegate.delete(tableName, filtersSnapshot, result);
+        });
+    }
+
+    /**
+     * Stop accepting, write what is left, wait for the background thread
+     * <p>
+     * A producer admitted before closing still offers its event, the background thread writes it.
+     * Events still on the ring buffer after the wait are counted as dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+
+        try {
+            worker.join(Duration.ofSeconds(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            return;
+        }
+
+        while (ringBuffer.poll() != null) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Snapshot, The Caller May Change It After The Call
+     *
+     * @param list [ Element ], Nullable
+     * @param <T>  Element Type
+     * @return Copy, null if null
+     */
+    private static <T> List<T> snapshot(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
+    /**
+     * Snapshot, The Caller May Change It After The Call
+     *
+     * @param values [ Name : Value ], Nullable
+     * @return Copy, null if null
+     */
+    private static Map<String, Value> snapshot(Map<String, Value> values) {
+        return values != null ? new LinkedHashMap<>(values) : null;
+    }
+
+    /**
+     * Snapshot, The List And Each Row
+     *
+     * @param rows [ [ Name : Value ] ], Nullable
+     * @return Copy, null if null
+     */
+    private static List<Map<String, Value>> snapshotRows(List<Map<String, Value>> rows) {
+        if (rows == null) {
+            return null;
+        }
+
+        List<Map<String, Value>> result = new ArrayList<>(rows.size());
+        for (Map<String, Value> row : rows) {
+            result.add(snapshot(row));
+        }
+
+        return result;
+    }
+
+    /**
+     * Snapshot, The Caller May Change It After The Call
+     *
+     * @param page the {@link Page} instance, Nullable
+     * @return Copy, null if null
+     */
+    private static Page snapshot(Page page) {
+        if (page == null) {
+            return null;
+        }
+
+        Page result = new Page();
+        result.setOffset(page.getOffset());
+        result.setLimit(page.getLimit());
+        return result;
+    }
+
+    /**
+     * Snapshot, The Caller May Change It After The Call
+     *
+     * @param bits the {@link BitSet} instance, Nullable
+     * @return Copy, null if null
+     */
+    private static BitSet snapshot(BitSet bits) {
+        return bits != null ? (BitSet) bits.clone() : null;
+    }
+
+    /**
+     * Snapshot, The Caller May Change It After The Call
+     *
+     * @param counts [ Count ], Nullable
+     * @return Copy, null if null
+     */
+    private static int[] snapshot(int[] counts) {
+        return counts != null ? counts.clone() : null;
+    }
+
+    /**
+     * Admit, Then Snapshot And Put On Ring Buffer, A Dropped Or Sampled Out Event Is Never Copied
+     *
+     * @param event builds the log event, copying the arguments
+     */
+    private void dispatch(@NotNull Supplier<Runnable> event) {
+        producers.incrementAndGet();
+        try {
+            if (admit()) {
+                offer(event.get());
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Admit, By Closing, Sampling And Capacity
+     *
+     * @return admitted ? true : false, counted as dropped or sampled
+     */
+    private boolean admit() {
+        if (closed) {
+            droppedCount.increment();
+            return false;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            return true;
+        }
+
+        int size = ringBuffer.size();
+        if (overflowPolicy == OverflowPolicy.SAMPLE && size >= highWaterMark && sampleSequence.getAndIncrement() % sampleRate != 0) {
+            sampledCount.increment();
+            return false;
+        }
+
+        if (size >= ringBuffer.capacity()) {
+            droppedCount.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Put On Ring Buffer
+     *
+     * @param event the log event
+     */
+    private void offer(@NotNull Runnable event) {
+        switch (overflowPolicy) {
+            case DROP, SAMPLE -> offerOrDrop(event);
+            case BLOCK -> {
+                while (!ringBuffer.offer(event)) {
+                    if (closed) {
+                        droppedCount.increment();
+                        return;
+                    }
+
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Offer, Drop If Full
+     *
+     * @param event the log event
+     */
+    private void offerOrDrop(Runnable event) {
+        if (!ringBuffer.offer(event)) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Background Thread, Poll And Write
+     */
+    private void drain() {
+        while (true) {
+            Runnable event = ringBuffer.poll();
+            if (event != null) {
+                write(event);
+                continue;
+            }
+
+            if (closed && producers.get() == 0) {
+                Runnable late = ringBuffer.poll();
+                if (late == null) {
+                    return;
+                }
+
+                write(late);
+                continue;
+            }
+
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Write, Never Throw
+     *
+     * @param event the log event
+     */
+    private void write(Runnable event) {
+        try {
+            event.run();
+            writtenCount.increment();
+        } catch (Throwable ignored) {
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * Pending Events
+     *
+     * @return approximate size of the ring buffer
+     */
+    public int getPendingCount() {
+        return ringBuffer.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getSampledCount() {
+        return sampledCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    @NotNull
+    public TemplateLog getDelegate() {
+        return delegate;
+    }
+
+    @NotNull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+}
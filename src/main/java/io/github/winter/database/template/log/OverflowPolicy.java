@@ -0,0 +1,24 @@
+package io.github.winter.database.template.log;
+
+/**
+ * Ring Buffer Full, Or Nearly Full
+ *
+ * @author changebooks@qq.com
+ */
+public enum OverflowPolicy {
+    /**
+     * Drop the event when full
+     */
+    DROP,
+
+    /**
+     * Keep 1 of every sampleRate events above the high water mark, drop when full
+     */
+    SAMPLE,
+
+    /**
+     * Wait for a free slot, the caller is slowed down to the log writer
+     */
+    BLOCK
+
+}
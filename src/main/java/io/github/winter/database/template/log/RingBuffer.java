@@ -0,0 +1,138 @@
+package io.github.winter.database.template.log;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded Lock-Free Ring Buffer, Multi Producer, Multi Consumer
+ * <p>
+ * Every slot carries a sequence, a producer claims the slot whose sequence equals its position,
+ * a consumer claims the slot whose sequence equals its position + 1.
+ *
+ * @param <E> Element Type
+ * @author changebooks@qq.com
+ */
+public final class RingBuffer<E> {
+    /**
+     * [ Element ]
+     */
+    private final Object[] buffer;
+
+    /**
+     * [ Slot Sequence ]
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * Capacity - 1
+     */
+    private final int mask;
+
+    /**
+     * Next Offer Position
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next Poll Position
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be in (1, 2^30], capacity: " + capacity);
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Offer
+     *
+     * @param element the element, not null
+     * @return full ? false : true
+     */
+    public boolean offer(@NotNull E element) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Poll
+     *
+     * @return the element, null if empty
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) buffer[index];
+                    buffer[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+
+                position = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Approximate Size
+     *
+     * @return tail - head
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
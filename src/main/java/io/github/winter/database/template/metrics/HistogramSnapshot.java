@@ -0,0 +1,119 @@
+package io.github.winter.database.template.metrics;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Histogram Snapshot, Immutable And Mergeable
+ *
+ * @author changebooks@qq.com
+ */
+public final class HistogramSnapshot {
+    /**
+     * Empty
+     */
+    public static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[LatencyHistogram.BUCKET_COUNT], 0, 0);
+
+    /**
+     * [ Count ], per Bucket
+     */
+    private final long[] counts;
+
+    /**
+     * Total Count
+     */
+    private final long count;
+
+    /**
+     * Sum of Nanos
+     */
+    private final long sum;
+
+    /**
+     * Max Nanos
+     */
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long sum, long max) {
+        long count = 0;
+        for (long x : counts) {
+            count += x;
+        }
+
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Merge, e.g. every shard of one table
+     *
+     * @param other the {@link HistogramSnapshot} instance
+     * @return a new {@link HistogramSnapshot} instance
+     */
+    @NotNull
+    public HistogramSnapshot merge(@NotNull HistogramSnapshot other) {
+        long[] merged = new long[counts.length];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = counts[i] + other.counts[i];
+        }
+
+        return new HistogramSnapshot(merged, sum + other.sum, Math.max(max, other.max));
+    }
+
+    /**
+     * Value At Percentile
+     *
+     * @param percentile 0.0 ~ 100.0
+     * @return Nanos, upper bound of the bucket, never above max
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        double ratio = Math.min(Math.max(percentile, 0.0), 100.0) / 100.0;
+        long rank = Math.max(1, (long) Math.ceil(ratio * count));
+
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Mean
+     *
+     * @return Nanos
+     */
+    public double getMean() {
+        return count != 0 ? (double) sum / count : 0.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{count=" + count +
+                ", p50=" + getValueAtPercentile(50) +
+                ", p99=" + getValueAtPercentile(99) +
+                ", p999=" + getValueAtPercentile(99.9) +
+                ", max=" + max + "}";
+    }
+
+}
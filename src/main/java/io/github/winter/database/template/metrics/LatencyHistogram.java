@@ -0,0 +1,179 @@
+package io.github.winter.database.template.metrics;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram, Log-Linear Buckets Of Nanos
+ * <p>
+ * 8 sub-buckets per power of 2 from 1 microsecond up to about 68 seconds, relative error under 12.5%.
+ * Every bucket is a {@link LongAdder}, so recording threads never contend on one cache line,
+ * created on its first record, so a histogram only pays for the buckets its latencies reach.
+ *
+ * @author changebooks@qq.com
+ */
+public final class LatencyHistogram {
+    /**
+     * Values Below 2^UNIT_SHIFT Nanos Share The First Bucket
+     */
+    static final int UNIT_SHIFT = 10;
+
+    /**
+     * 2^SUB_BUCKET_BITS Sub-Buckets per Power of 2
+     */
+    static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * Sub-Buckets per Power of 2
+     */
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Highest Tracked Power of 2, In Units
+     */
+    static final int MAX_MSB = 25;
+
+    /**
+     * Bucket Num
+     */
+    static final int BUCKET_COUNT = (MAX_MSB - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    /**
+     * [ Count ], per Bucket, null until recorded
+     */
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    /**
+     * Sum of Nanos
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Max Nanos
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record
+     *
+     * @param nanos Elapsed Nanos, negative ? 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        bucketOf(indexOf(value)).increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Snapshot, not atomic across buckets while recording
+     *
+     * @return the {@link HistogramSnapshot} instance
+     */
+    @NotNull
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+            }
+        }
+
+        return new HistogramSnapshot(counts, sum.sum(), max.get());
+    }
+
+    /**
+     * Reset, records made concurrently may be lost
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                bucket.reset();
+            }
+        }
+
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Bucket, Create If Absent
+     *
+     * @param index Bucket Index
+     * @return the {@link LongAdder} instance
+     */
+    @NotNull
+    private LongAdder bucketOf(int index) {
+        LongAdder bucket = buckets.get(index);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        LongAdder created = new LongAdder();
+        if (buckets.compareAndSet(index, null, created)) {
+            return created;
+        }
+
+        return buckets.get(index);
+    }
+
+    /**
+     * Nanos to Bucket Index
+     *
+     * @param nanos Nanos, not negative
+     * @return Bucket Index
+     */
+    static int indexOf(long nanos) {
+        long units = nanos >>> UNIT_SHIFT;
+        if (units < SUB_BUCKET_COUNT) {
+            return (int) units;
+        }
+
+        int msb = 63 - Long.numberOfLeadingZeros(units);
+        if (msb > MAX_MSB) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int sub = (int) (units >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * Bucket Index to Lowest Nanos
+     *
+     * @param index Bucket Index
+     * @return Lowest Nanos In The Bucket
+     */
+    static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return (long) index << UNIT_SHIFT;
+        }
+
+        int msb = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long sub = index % SUB_BUCKET_COUNT;
+        long units = (SUB_BUCKET_COUNT + sub) << (msb - SUB_BUCKET_BITS);
+
+        return units << UNIT_SHIFT;
+    }
+
+    /**
+     * Bucket Index to Highest Nanos
+     *
+     * @param index Bucket Index
+     * @return Highest Nanos In The Bucket, the last bucket ? Long.MAX_VALUE
+     */
+    static long upperBoundOf(int index) {
+        if (index >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return lowerBoundOf(index + 1) - 1;
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.github.winter.database.template.metrics;
+
+import io.github.winter.database.template.OperationType;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Metric Key, ( Table, Operation, Shard )
+ *
+ * @param tableName Table Name, Without Sharding Table Num
+ * @param type      the {@link OperationType} instance
+ * @param tableNum  Sharding Table Num, null if not sharded or not shard tagged
+ * @author changebooks@qq.com
+ */
+public record MetricKey(@NotNull String tableName, @NotNull OperationType type, @Nullable Integer tableNum) {
+}
@@ -0,0 +1,135 @@
+package io.github.winter.database.template.metrics;
+
+import io.github.winter.database.template.TemplateOperation;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation Metrics, One ( Table, Operation[, Shard] )
+ *
+ * @author changebooks@qq.com
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+    /**
+     * Nanos per Microsecond
+     */
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    /**
+     * the {@link MetricKey} instance
+     */
+    private final MetricKey key;
+
+    /**
+     * the {@link LatencyHistogram} instance
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Statements Failed
+     */
+    private final LongAdder errorCount = new LongAdder();
+
+    /**
+     * Rows Read Or Affected
+     */
+    private final LongAdder rowCount = new LongAdder();
+
+    public OperationMetrics(@NotNull MetricKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Record
+     *
+     * @param operation the {@link TemplateOperation} instance
+     */
+    public void record(@NotNull TemplateOperation operation) {
+        histogram.record(operation.getElapsedNanos());
+
+        if (operation.isSuccess()) {
+            rowCount.add(operation.getRowCount());
+        } else {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * Snapshot
+     *
+     * @return the {@link HistogramSnapshot} instance
+     */
+    @NotNull
+    public HistogramSnapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    @Override
+    public String getTableName() {
+        return key.tableName();
+    }
+
+    @Override
+    public String getOperation() {
+        return key.type().name();
+    }
+
+    @Override
+    public Integer getTableNum() {
+        return key.tableNum();
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.snapshot().getCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return histogram.snapshot().getMean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return histogram.snapshot().getValueAtPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return histogram.snapshot().getValueAtPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return histogram.snapshot().getValueAtPercentile(99.9) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return histogram.snapshot().getMax() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public void reset() {
+        histogram.reset();
+        errorCount.reset();
+        rowCount.reset();
+    }
+
+    @NotNull
+    public MetricKey getKey() {
+        return key;
+    }
+
+}
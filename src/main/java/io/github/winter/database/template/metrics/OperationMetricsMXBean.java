@@ -0,0 +1,91 @@
+package io.github.winter.database.template.metrics;
+
+/**
+ * Operation Metrics, JMX
+ *
+ * @author changebooks@qq.com
+ */
+public interface OperationMetricsMXBean {
+    /**
+     * Table Name
+     *
+     * @return Table Name, Without Sharding Table Num
+     */
+    String getTableName();
+
+    /**
+     * Operation
+     *
+     * @return the {@link io.github.winter.database.template.OperationType} name
+     */
+    String getOperation();
+
+    /**
+     * Sharding Table Num
+     *
+     * @return Sharding Table Num, null if not sharded or not shard tagged
+     */
+    Integer getTableNum();
+
+    /**
+     * Statements Run
+     *
+     * @return Count, Failed Included
+     */
+    long getCount();
+
+    /**
+     * Statements Failed
+     *
+     * @return Count
+     */
+    long getErrorCount();
+
+    /**
+     * Rows Read Or Affected
+     *
+     * @return Count
+     */
+    long getRowCount();
+
+    /**
+     * Mean Latency
+     *
+     * @return Microseconds
+     */
+    double getMeanMicros();
+
+    /**
+     * p50 Latency
+     *
+     * @return Microseconds
+     */
+    double getP50Micros();
+
+    /**
+     * p99 Latency
+     *
+     * @return Microseconds
+     */
+    double getP99Micros();
+
+    /**
+     * p99.9 Latency
+     *
+     * @return Microseconds
+     */
+    double getP999Micros();
+
+    /**
+     * Max Latency
+     *
+     * @return Microseconds
+     */
+    double getMaxMicros();
+
+    /**
+     * Reset All
+     */
+    void reset();
+
+}
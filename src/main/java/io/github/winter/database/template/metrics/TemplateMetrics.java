@@ -0,0 +1,242 @@
+package io.github.winter.database.template.metrics;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.template.OperationType;
+import io.github.winter.database.template.TemplateListener;
+import io.github.winter.database.template.TemplateOperation;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Template Metrics, Latency Histograms And Counters per ( Table, Operation ), optionally per Shard
+ * <p>
+ * Register on {@link io.github.winter.database.template.Template#addListener(TemplateListener)},
+ * every key is published as an {@link OperationMetricsMXBean} on first use.
+ * Shards of a table share one key unless {@link #setShardTagged(boolean)},
+ * thousands of shards would otherwise mean thousands of MBeans per operation.
+ *
+ * @author changebooks@qq.com
+ */
+public class TemplateMetrics implements TemplateListener, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateMetrics.class);
+
+    /**
+     * JMX Domain
+     */
+    public static final String DOMAIN = "io.github.winter.database.template";
+
+    /**
+     * Metrics Name, distinguishes Templates in one JVM
+     */
+    private final String name;
+
+    /**
+     * the {@link MBeanServer} instance, null ? JMX disabled
+     */
+    private final MBeanServer mBeanServer;
+
+    /**
+     * Key by Sharding Table Num ? per Shard : per Logical Table
+     */
+    private volatile boolean shardTagged;
+
+    /**
+     * [ the {@link MetricKey} instance : the {@link OperationMetrics} instance ]
+     */
+    private final Map<MetricKey, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * [ the {@link MetricKey} instance : the {@link ObjectName} instance ]
+     */
+    private final Map<MetricKey, ObjectName> objectNames = new ConcurrentHashMap<>();
+
+    public TemplateMetrics(String name) {
+        this(name, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public TemplateMetrics(String name, @Nullable MBeanServer mBeanServer) {
+        Preconditions.requireNonEmpty(name, "name must not be empty");
+
+        this.name = name;
+        this.mBeanServer = mBeanServer;
+    }
+
+    @Override
+    public void onOperation(TemplateOperation operation) {
+        Integer tableNum = isShardTagged() ? operation.getTableNum() : null;
+        MetricKey key = new MetricKey(operation.getTableName(), operation.getType(), tableNum);
+
+        OperationMetrics operationMetrics = metrics.get(key);
+        if (operationMetrics == null) {
+            operationMetrics = metrics.computeIfAbsent(key, this::create);
+        }
+
+        operationMetrics.record(operation);
+    }
+
+    /**
+     * Merge Every Shard of a Table
+     *
+     * @param tableName Table Name, Without Sharding Table Num
+     * @param type      the {@link OperationType} instance
+     * @return the {@link HistogramSnapshot} instance
+     */
+    @NotNull
+    public HistogramSnapshot merge(@NotNull String tableName, @NotNull OperationType type) {
+        HistogramSnapshot result = HistogramSnapshot.EMPTY;
+
+        for (OperationMetrics operationMetrics : metrics.values()) {
+            MetricKey key = operationMetrics.getKey();
+            if (key.type() == type && key.tableName().equals(tableName)) {
+                result = result.merge(operationMetrics.snapshot());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get
+     *
+     * @param key the {@link MetricKey} instance
+     * @return the {@link OperationMetrics} instance, null if never recorded
+     */
+    @Nullable
+    public OperationMetrics get(@NotNull MetricKey key) {
+        return metrics.get(key);
+    }
+
+    /**
+     * Get All
+     *
+     * @return [ the {@link OperationMetrics} instance ]
+     */
+    @NotNull
+    public Collection<OperationMetrics> getAll() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    /**
+     * Reset All
+     */
+    public void reset() {
+        for (OperationMetrics operationMetrics : metrics.values()) {
+            operationMetrics.reset();
+        }
+    }
+
+    /**
+     * Unregister All MBeans
+     */
+    @Override
+    public void close() {
+        MBeanServer server = getMBeanServer();
+        if (server == null) {
+            return;
+        }
+
+        for (ObjectName objectName : objectNames.values()) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException ex) {
+                LOGGER.error("close failed, objectName: {}, throwable: ", objectName, ex);
+            }
+        }
+
+        objectNames.clear();
+    }
+
+    /**
+     * Create And Register
+     *
+     * @param key the {@link MetricKey} instance
+     * @return the {@link OperationMetrics} instance
+     */
+    @NotNull
+    protected OperationMetrics create(@NotNull MetricKey key) {
+        OperationMetrics result = new OperationMetrics(key);
+
+        MBeanServer server = getMBeanServer();
+        if (server != null) {
+            register(server, key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Register MBean, Never Throw
+     *
+     * @param server           the {@link MBeanServer} instance
+     * @param key              the {@link MetricKey} instance
+     * @param operationMetrics the {@link OperationMetrics} instance
+     */
+    protected void register(@NotNull MBeanServer server, @NotNull MetricKey key, @NotNull OperationMetrics operationMetrics) {
+        try {
+            ObjectName objectName = objectNameOf(key);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+
+            server.registerMBean(operationMetrics, objectName);
+            objectNames.put(key, objectName);
+        } catch (JMException ex) {
+            LOGGER.error("register failed, key: {}, throwable: ", key, ex);
+        }
+    }
+
+    /**
+     * Object Name
+     *
+     * @param key the {@link MetricKey} instance
+     * @return io.github.winter.database.template:type=TemplateMetrics,name=name,table="table",operation=SELECT_LIST[,shard=1]
+     * @throws JMException if the name is malformed
+     */
+    @NotNull
+    protected ObjectName objectNameOf(@NotNull MetricKey key) throws JMException {
+        Integer tableNum = key.tableNum();
+
+        return new ObjectName(DOMAIN + ":type=TemplateMetrics" +
+                ",name=" + ObjectName.quote(getName()) +
+                ",table=" + ObjectName.quote(key.tableName()) +
+                ",operation=" + key.type().name() +
+                (tableNum != null ? ",shard=" + tableNum : ""));
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    public MBeanServer getMBeanServer() {
+        return mBeanServer;
+    }
+
+    public boolean isShardTagged() {
+        return shardTagged;
+    }
+
+    /**
+     * Key by Sharding Table Num, set before the first operation,
+     * keys already created stay
+     *
+     * @param shardTagged per Shard ? true : false, default false
+     */
+    public void setShardTagged(boolean shardTagged) {
+        this.shardTagged = shardTagged;
+    }
+
+}
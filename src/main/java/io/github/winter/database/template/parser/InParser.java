@@ -0,0 +1,126 @@
+package io.github.winter.database.template.parser;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.boot.tuple.Value;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In Parser
+ *
+ * @author changebooks@qq.com
+ */
+public final class InParser {
+    /**
+     * Prepared Statement Setter Placeholder
+     */
+    private static final String PLACEHOLDER = "?";
+
+    /**
+     * Placeholder Separator
+     */
+    private static final String SEPARATOR = ", ";
+
+    private InParser() {
+    }
+
+    /**
+     * SELECT column, column FROM table WHERE key IN (?, ?, ?)
+     *
+     * @param tableName FROM table
+     * @param columns   column, column
+     * @param keyName   Key Name
+     * @param keyValues [ Key Value ], not null
+     * @return the {@link SqlParameter} instance
+     */
+    @NotNull
+    public static SqlParameter parseSelect(@NotNull String tableName,
+                                           @NotNull String columns, @NotNull String keyName, @NotNull List<Value> keyValues) {
+        Preconditions.requireNonEmpty(keyName, "keyName must not be empty, tableName: " + tableName);
+
+        int size = keyValues.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("keyValues must not be empty, tableName: " + tableName);
+        }
+
+        List<String> parameterNames = parseNames(keyName, size);
+        Map<String, Value> parameters = parseParameters(parameterNames, keyValues);
+
+        String sql = "SELECT " + columns + " FROM " + tableName + " WHERE " + keyName + " IN (" + joinPlaceholders(size) + ")";
+
+        SqlParameter sqlParameter = new SqlParameter();
+        sqlParameter.setSql(sql);
+        sqlParameter.setParameterNames(parameterNames);
+        sqlParameter.setParameters(parameters);
+
+        return sqlParameter;
+    }
+
+    /**
+     * Parse Names
+     *
+     * @param keyName Key Name
+     * @param size    Placeholder Num
+     * @return [ [key:0], [key:1], [key:2] ]
+     */
+    @NotNull
+    public static List<String> parseNames(@NotNull String keyName, int size) {
+        List<String> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            result.add("[" + keyName + ":" + i + "]");
+        }
+
+        return result;
+    }
+
+    /**
+     * Parse Parameters
+     *
+     * @param parameterNames [ Parameter Name ]
+     * @param keyValues      [ Key Value ]
+     * @return [ Parameter Name : Key Value ]
+     */
+    @NotNull
+    public static Map<String, Value> parseParameters(@NotNull List<String> parameterNames, @NotNull List<Value> keyValues) {
+        int size = parameterNames.size();
+        Map<String, Value> result = HashMap.newHashMap(size);
+
+        for (int i = 0; i < size; i++) {
+            Value keyValue = keyValues.get(i);
+            Preconditions.requireNonNull(keyValue, "keyValue must not be null, index: " + i);
+
+            result.put(parameterNames.get(i), keyValue);
+        }
+
+        return result;
+    }
+
+    /**
+     * Join Placeholders
+     *
+     * @param size Placeholder Num
+     * @return ?, ?, ?
+     */
+    @NotNull
+    public static String joinPlaceholders(int size) {
+        if (size <= 0) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder(size * 3);
+        result.append(PLACEHOLDER);
+
+        for (int i = 1; i < size; i++) {
+            result.append(SEPARATOR).append(PLACEHOLDER);
+        }
+
+        return result.toString();
+    }
+
+}
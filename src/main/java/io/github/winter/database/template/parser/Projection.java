@@ -0,0 +1,73 @@
+package io.github.winter.database.template.parser;
+
+import io.github.winter.database.table.TableSchema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SELECT column, column
+ *
+ * @author changebooks@qq.com
+ */
+public final class Projection {
+    /**
+     * the {@link TableSchema} instance, projected from, the canonical of a shard alias
+     */
+    private final TableSchema tableSchema;
+
+    /**
+     * [ Column Name ]
+     */
+    private final List<String> columnNames;
+
+    /**
+     * [ Column Name : Value Type ]
+     */
+    private final Map<String, Class<?>> valueTypes;
+
+    /**
+     * column, column
+     */
+    private final String joinedColumns;
+
+    public Projection(@NotNull TableSchema tableSchema,
+                      @NotNull List<String> columnNames, @NotNull Map<String, Class<?>> valueTypes, @NotNull String joinedColumns) {
+        this.tableSchema = tableSchema;
+        this.columnNames = columnNames;
+        this.valueTypes = valueTypes;
+        this.joinedColumns = joinedColumns;
+    }
+
+    /**
+     * Contains Column ?
+     *
+     * @param columnName Column Name
+     * @return contains ? true : false
+     */
+    public boolean contains(String columnName) {
+        return columnName != null && valueTypes.containsKey(columnName);
+    }
+
+    @NotNull
+    public TableSchema getTableSchema() {
+        return tableSchema;
+    }
+
+    @NotNull
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @NotNull
+    public Map<String, Class<?>> getValueTypes() {
+        return valueTypes;
+    }
+
+    @NotNull
+    public String getJoinedColumns() {
+        return joinedColumns;
+    }
+
+}
@@ -0,0 +1,148 @@
+package io.github.winter.database.template.parser;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.TableSchemaRegistry;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Projection Parser
+ *
+ * @author changebooks@qq.com
+ */
+public final class ProjectionParser {
+    /**
+     * Max Cached Projections per Table
+     */
+    private static final int MAX_SIZE = 256;
+
+    /**
+     * Max Cached Tables
+     */
+    private static final int MAX_TABLES = 4096;
+
+    /**
+     * Key Of All Columns
+     */
+    private static final List<String> ALL_COLUMNS = List.of();
+
+    /**
+     * [ Canonical Table Name : [ [ Column Name ] : the {@link Projection} instance ] ], shards sharing a canonical share one entry
+     */
+    private static final Map<String, Map<List<String>, Projection>> DATA = new ConcurrentHashMap<>();
+
+    private ProjectionParser() {
+    }
+
+    /**
+     * SELECT column, column, cached per canonical schema and columns, All Columns Included
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param columns     [ Column Name ], if null or empty ? All Columns
+     * @return the {@link Projection} instance
+     */
+    @NotNull
+    public static Projection parse(@NotNull TableSchema tableSchema, List<String> columns) {
+        List<String> key = columns == null || columns.isEmpty() ? ALL_COLUMNS : columns;
+
+        TableSchema canonical = TableSchemaRegistry.canonicalOf(tableSchema);
+        Map<List<String>, Projection> projections = projectionsOf(canonical.getTableName());
+
+        Projection projection = projections.get(key);
+        if (projection != null && projection.getTableSchema() == canonical) {
+            return projection;
+        }
+
+        Projection result = key == ALL_COLUMNS
+                ? new Projection(canonical, canonical.getColumnNames(), canonical.getValueTypes(), canonical.getJoinedColumnsOnSelect())
+                : create(canonical, tableSchema.getTableName(), key);
+
+        if (projections.size() >= MAX_SIZE) {
+            projections.clear();
+        }
+
+        projections.put(key == ALL_COLUMNS ? ALL_COLUMNS : result.getColumnNames(), result);
+        return result;
+    }
+
+    /**
+     * Cached Projections Of A Table, Every Table Forgotten Once MAX_TABLES Are Cached
+     *
+     * @param tableName Canonical Table Name
+     * @return [ [ Column Name ] : the {@link Projection} instance ]
+     */
+    @NotNull
+    private static Map<List<String>, Projection> projectionsOf(@NotNull String tableName) {
+        Map<List<String>, Projection> result = DATA.get(tableName);
+        if (result != null) {
+            return result;
+        }
+
+        if (DATA.size() >= MAX_TABLES) {
+            DATA.clear();
+        }
+
+        return DATA.computeIfAbsent(tableName, x -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Remove Cached Projections
+     *
+     * @param tableName Table Name, or any shard sharing its canonical
+     */
+    public static void remove(String tableName) {
+        if (tableName == null) {
+            return;
+        }
+
+        DATA.remove(tableName);
+
+        TableSchema tableSchema = TableSchemaRegistry.get(tableName);
+        if (tableSchema != null) {
+            DATA.remove(TableSchemaRegistry.canonicalOf(tableSchema).getTableName());
+        }
+    }
+
+    /**
+     * Remove All Cached Projections
+     */
+    public static void clear() {
+        DATA.clear();
+    }
+
+    /**
+     * Validate Columns And Join
+     *
+     * @param tableSchema the {@link TableSchema} instance, Canonical
+     * @param tableName   Table Name, of the error messages
+     * @param columns     [ Column Name ]
+     * @return the {@link Projection} instance
+     */
+    @NotNull
+    private static Projection create(@NotNull TableSchema tableSchema, String tableName, @NotNull List<String> columns) {
+        Map<String, Class<?>> schemaTypes = tableSchema.getValueTypes();
+
+        Map<String, Class<?>> valueTypes = new LinkedHashMap<>();
+        for (String columnName : columns) {
+            Preconditions.requireNonNull(columnName, "columnName must not be null, tableName: " + tableName);
+
+            Class<?> valueType = schemaTypes.get(columnName);
+            Preconditions.requireNonNull(valueType, "unsupported columnName: " + columnName + ", tableName: " + tableName);
+
+            if (valueTypes.put(columnName, valueType) != null) {
+                throw new IllegalArgumentException("duplicate columnName: " + columnName + ", tableName: " + tableName);
+            }
+        }
+
+        List<String> columnNames = List.copyOf(columns);
+        String joinedColumns = String.join(", ", columnNames);
+        return new Projection(tableSchema, columnNames, Collections.unmodifiableMap(valueTypes), joinedColumns);
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table Schema, Decoded By The {@link FieldTableSchemaCodec}
+ *
+ * @author changebooks@qq.com
+ */
+final class DecodedTableSchema extends TableSchema {
+
+    private final String tableName;
+
+    private final String idName;
+
+    private final List<String> columnNames;
+
+    private final Map<String, Class<?>> valueTypes;
+
+    private final List<String> columnsOnInsert;
+
+    private final Set<String> columnsOnUpdate;
+
+    private final String joinedColumnsOnSelect;
+
+    private final String joinedColumnsOnInsert;
+
+    private final String joinedValuesOnInsert;
+
+    private final Map<String, Value> defaultValues;
+
+    DecodedTableSchema(String tableName, String idName,
+                       List<String> columnNames, Map<String, Class<?>> valueTypes,
+                       List<String> columnsOnInsert, Set<String> columnsOnUpdate,
+                       String joinedColumnsOnSelect, String joinedColumnsOnInsert, String joinedValuesOnInsert,
+                       Map<String, Value> defaultValues) {
+        this.tableName = tableName;
+        this.idName = idName;
+        this.columnNames = columnNames;
+        this.valueTypes = valueTypes;
+        this.columnsOnInsert = columnsOnInsert;
+        this.columnsOnUpdate = columnsOnUpdate;
+        this.joinedColumnsOnSelect = joinedColumnsOnSelect;
+        this.joinedColumnsOnInsert = joinedColumnsOnInsert;
+        this.joinedValuesOnInsert = joinedValuesOnInsert;
+        this.defaultValues = defaultValues;
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public String getIdName() {
+        return idName;
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public Map<String, Class<?>> getValueTypes() {
+        return valueTypes;
+    }
+
+    @Override
+    public List<String> getColumnsOnInsert() {
+        return columnsOnInsert;
+    }
+
+    @Override
+    public Set<String> getColumnsOnUpdate() {
+        return columnsOnUpdate;
+    }
+
+    @Override
+    public String getJoinedColumnsOnSelect() {
+        return joinedColumnsOnSelect;
+    }
+
+    @Override
+    public String getJoinedColumnsOnInsert() {
+        return joinedColumnsOnInsert;
+    }
+
+    @Override
+    public String getJoinedValuesOnInsert() {
+        return joinedValuesOnInsert;
+    }
+
+    @Override
+    public Map<String, Value> getDefaultValues() {
+        return defaultValues;
+    }
+
+}
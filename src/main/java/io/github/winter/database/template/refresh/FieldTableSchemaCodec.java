@@ -0,0 +1,387 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table Schema Codec, Field By Field Over The Getters Of {@link TableSchema}
+ * <p>
+ * No Java serialization: strings, string collections, value types by class name, limited to java classes,
+ * and default values as Long, Integer or String by the value type of the column.
+ * Decodes straight from the buffer, a memory-mapped snapshot is not copied per table,
+ * every size and length is checked against the bytes left before allocating.
+ *
+ * @author changebooks@qq.com
+ */
+public final class FieldTableSchemaCodec implements TableSchemaCodec {
+    /**
+     * Format Version
+     */
+    private static final byte VERSION = 1;
+
+    /**
+     * Absent String Or Collection
+     */
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * Default Value Tags
+     */
+    private static final byte TAG_NULL = 0;
+
+    private static final byte TAG_LONG = 1;
+
+    private static final byte TAG_INTEGER = 2;
+
+    private static final byte TAG_STRING = 3;
+
+    /**
+     * Primitive Value Types, By Name
+     */
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class);
+
+    @Override
+    public byte[] encode(TableSchema tableSchema) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            writeString(output, tableSchema.getTableName());
+            writeString(output, tableSchema.getIdName());
+            writeStrings(output, tableSchema.getColumnNames());
+
+            Map<String, Class<?>> valueTypes = tableSchema.getValueTypes();
+            writeValueTypes(output, valueTypes);
+
+            writeStrings(output, tableSchema.getColumnsOnInsert());
+            writeStrings(output, tableSchema.getColumnsOnUpdate());
+            writeString(output, tableSchema.getJoinedColumnsOnSelect());
+            writeString(output, tableSchema.getJoinedColumnsOnInsert());
+            writeString(output, tableSchema.getJoinedValuesOnInsert());
+            writeDefaultValues(output, tableSchema.getDefaultValues(), valueTypes);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public TableSchema decode(byte[] bytes) throws IOException {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public TableSchema decode(ByteBuffer buffer) throws IOException {
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("unsupported version: " + version);
+            }
+
+            String tableName = readString(buffer);
+            String idName = readString(buffer);
+            List<String> columnNames = readList(buffer);
+            Map<String, Class<?>> valueTypes = readValueTypes(buffer);
+            List<String> columnsOnInsert = readList(buffer);
+            Set<String> columnsOnUpdate = readSet(buffer);
+            String joinedColumnsOnSelect = readString(buffer);
+            String joinedColumnsOnInsert = readString(buffer);
+            String joinedValuesOnInsert = readString(buffer);
+            Map<String, Value> defaultValues = readDefaultValues(buffer);
+
+            return new DecodedTableSchema(tableName, idName, columnNames, valueTypes, columnsOnInsert, columnsOnUpdate,
+                    joinedColumnsOnSelect, joinedColumnsOnInsert, joinedValuesOnInsert, defaultValues);
+        } catch (RuntimeException ex) {
+            throw new StreamCorruptedException("corrupted table schema, message: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Write Value Types, Column Name And Class Name
+     *
+     * @param output     the {@link DataOutputStream} instance
+     * @param valueTypes [ Column Name : Class ], Nullable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeValueTypes(DataOutputStream output, Map<String, Class<?>> valueTypes) throws IOException {
+        if (valueTypes == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        output.writeInt(valueTypes.size());
+        for (Map.Entry<String, Class<?>> entry : valueTypes.entrySet()) {
+            Class<?> type = entry.getValue();
+            writeString(output, entry.getKey());
+            writeString(output, type != null ? type.getName() : null);
+        }
+    }
+
+    /**
+     * Read Value Types
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return [ Column Name : Class ], Nullable
+     * @throws InvalidClassException if a class is not a java class
+     */
+    private static Map<String, Class<?>> readValueTypes(ByteBuffer buffer) throws InvalidClassException {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        requireSize(buffer, size);
+
+        Map<String, Class<?>> result = LinkedHashMap.newLinkedHashMap(size);
+        for (int i = 0; i < size; i++) {
+            String name = readString(buffer);
+            String className = readString(buffer);
+            result.put(name, className != null ? loadClass(className) : null);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Load A Value Type, Primitives, java Classes And Arrays Of Them Only
+     *
+     * @param className Class Name
+     * @return the {@link Class} instance
+     * @throws InvalidClassException if not a java class
+     */
+    private static Class<?> loadClass(String className) throws InvalidClassException {
+        Class<?> primitive = PRIMITIVES.get(className);
+        if (primitive != null) {
+            return primitive;
+        }
+
+        String componentName = className;
+        while (componentName.startsWith("[")) {
+            componentName = componentName.substring(1);
+        }
+
+        boolean accepted = componentName.length() == 1 || componentName.startsWith("java.") || componentName.startsWith("Ljava.");
+        if (!accepted) {
+            throw new InvalidClassException(className, "unsupported value type");
+        }
+
+        try {
+            return Class.forName(className, false, ClassLoader.getPlatformClassLoader());
+        } catch (ClassNotFoundException ex) {
+            throw new InvalidClassException(className, "value type not found");
+        }
+    }
+
+    /**
+     * Write Default Values, As Long, Integer Or String By The Value Type Of The Column
+     *
+     * @param output        the {@link DataOutputStream} instance
+     * @param defaultValues [ Column Name : Value ], Nullable
+     * @param valueTypes    [ Column Name : Class ], Nullable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeDefaultValues(DataOutputStream output,
+                                           Map<String, Value> defaultValues, Map<String, Class<?>> valueTypes) throws IOException {
+        if (defaultValues == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        output.writeInt(defaultValues.size());
+        for (Map.Entry<String, Value> entry : defaultValues.entrySet()) {
+            String name = entry.getKey();
+            Value value = entry.getValue();
+            writeString(output, name);
+
+            if (value == null) {
+                output.writeByte(TAG_NULL);
+                continue;
+            }
+
+            Class<?> type = valueTypes != null ? valueTypes.get(name) : null;
+            if (type == Long.class || type == long.class) {
+                Long number = value.getLong();
+                if (number != null) {
+                    output.writeByte(TAG_LONG);
+                    output.writeLong(number);
+                    continue;
+                }
+            } else if (type == Integer.class || type == int.class) {
+                Integer number = value.getInteger();
+                if (number != null) {
+                    output.writeByte(TAG_INTEGER);
+                    output.writeInt(number);
+                    continue;
+                }
+            }
+
+            output.writeByte(TAG_STRING);
+            writeString(output, value.getString());
+        }
+    }
+
+    /**
+     * Read Default Values
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return [ Column Name : Value ], Nullable
+     * @throws StreamCorruptedException if a tag is unknown
+     */
+    private static Map<String, Value> readDefaultValues(ByteBuffer buffer) throws StreamCorruptedException {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        requireSize(buffer, size);
+
+        Map<String, Value> result = LinkedHashMap.newLinkedHashMap(size);
+        for (int i = 0; i < size; i++) {
+            String name = readString(buffer);
+            byte tag = buffer.get();
+
+            Value value = switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_LONG -> new Value(buffer.getLong());
+                case TAG_INTEGER -> new Value(buffer.getInt());
+                case TAG_STRING -> new Value(readString(buffer));
+                default -> throw new StreamCorruptedException("unknown default value tag: " + tag + ", name: " + name);
+            };
+
+            result.put(name, value);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Write Strings, Size Then Each
+     *
+     * @param output the {@link DataOutputStream} instance
+     * @param values [ String ], Nullable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeStrings(DataOutputStream output, Collection<String> values) throws IOException {
+        if (values == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    /**
+     * Read Strings As List
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return [ String ], Nullable
+     */
+    private static List<String> readList(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        requireSize(buffer, size);
+
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(readString(buffer));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Read Strings As Set, In Order
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return [ String ], Nullable
+     */
+    private static Set<String> readSet(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        requireSize(buffer, size);
+
+        Set<String> result = LinkedHashSet.newLinkedHashSet(size);
+        for (int i = 0; i < size; i++) {
+            result.add(readString(buffer));
+        }
+
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Require A Size Within The Bytes Left, Every Element Takes At Least A Length
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @param size   Elements
+     * @throws IllegalArgumentException if negative or beyond the bytes left
+     */
+    private static void requireSize(ByteBuffer buffer, int size) {
+        if (size < 0 || size > buffer.remaining() / Integer.BYTES) {
+            throw new IllegalArgumentException("size out of bounds, size: " + size + ", remaining: " + buffer.remaining());
+        }
+    }
+
+    /**
+     * Write String, Length And UTF-8
+     *
+     * @param output the {@link DataOutputStream} instance
+     * @param value  String, Nullable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read String, Length And UTF-8
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return String, Nullable
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        TableSchemaSnapshot.requireLength(buffer, length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
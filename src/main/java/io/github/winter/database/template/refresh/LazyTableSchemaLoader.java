@@ -0,0 +1,286 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.table.TableSchemaReader;
+import io.github.winter.database.template.TableSchemaLoader;
+import io.github.winter.database.template.TableSchemaRegistry;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按需加载表概要
+ * <p>
+ * On a registry miss, reads that one table. Concurrent misses of one table share one read (single-flight),
+ * misses of tables confirmed not to exist are remembered for negativeTtl, at most maxNegatives of them.
+ * A failed read is not remembered, it throws to every caller sharing it, the next miss reads again.
+ * Built with one {@link JdbcTemplate} per database, e.g. one per executor of a sharded topology,
+ * the databases are asked in order until one has the table.
+ *
+ * @author changebooks@qq.com
+ */
+public class LazyTableSchemaLoader implements TableSchemaLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyTableSchemaLoader.class);
+
+    /**
+     * Default Negative TTL
+     */
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+
+    /**
+     * Default Max Negative Results Remembered
+     */
+    public static final int DEFAULT_MAX_NEGATIVES = 10_000;
+
+    /**
+     * [ the {@link JdbcTemplate} instance ], One Per Database, Asked In Order
+     */
+    private final List<JdbcTemplate> jdbcTemplates;
+
+    /**
+     * [ Table Name : Loading ]
+     */
+    private final Map<String, CompletableFuture<TableSchema>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * [ Table Name : Expires At Nanos ], no such table or failed to read
+     */
+    private final Map<String, Long> negatives = new ConcurrentHashMap<>();
+
+    /**
+     * Negative TTL Nanos
+     */
+    private volatile long negativeTtlNanos = DEFAULT_NEGATIVE_TTL.toNanos();
+
+    /**
+     * Max Negative Results Remembered
+     */
+    private volatile int maxNegatives = DEFAULT_MAX_NEGATIVES;
+
+    public LazyTableSchemaLoader(JdbcTemplate jdbcTemplate) {
+        Preconditions.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+
+        this.jdbcTemplates = List.of(jdbcTemplate);
+    }
+
+    public LazyTableSchemaLoader(List<JdbcTemplate> jdbcTemplates) {
+        Preconditions.requireNonNull(jdbcTemplates, "jdbcTemplates must not be null");
+        if (jdbcTemplates.isEmpty()) {
+            throw new IllegalArgumentException("jdbcTemplates must not be empty");
+        }
+
+        this.jdbcTemplates = List.copyOf(jdbcTemplates);
+    }
+
+    @Override
+    public TableSchema load(String tableName) {
+        if (tableName == null) {
+            return null;
+        }
+
+        TableSchema tableSchema = TableSchemaRegistry.get(tableName);
+        if (tableSchema != null) {
+            return tableSchema;
+        }
+
+        Long expiresAt = negatives.get(tableName);
+        if (expiresAt != null) {
+            if (System.nanoTime() - expiresAt < 0) {
+                return null;
+            }
+
+            negatives.remove(tableName, expiresAt);
+        }
+
+        CompletableFuture<TableSchema> future = new CompletableFuture<>();
+        CompletableFuture<TableSchema> loading = inFlight.putIfAbsent(tableName, future);
+        if (loading != null) {
+            try {
+                return loading.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        try {
+            TableSchema result = TableSchemaRegistry.get(tableName);
+            if (result != null) {
+                future.complete(result);
+                return result;
+            }
+
+            result = doLoad(tableName);
+            if (result != null) {
+                TableSchemaRegistry.put(tableName, result);
+            } else {
+                putNegative(tableName);
+            }
+
+            future.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(tableName, future);
+        }
+    }
+
+    /**
+     * Remember A Confirmed Absence, Expired Ones Purged When Full, Not Remembered If Still Full
+     *
+     * @param tableName Table Name
+     */
+    private void putNegative(String tableName) {
+        long now = System.nanoTime();
+        if (negatives.size() >= maxNegatives) {
+            negatives.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (negatives.size() >= maxNegatives) {
+                return;
+            }
+        }
+
+        negatives.put(tableName, now + negativeTtlNanos);
+    }
+
+    /**
+     * Forget The Negative Result, e.g. after CREATE TABLE
+     *
+     * @param tableName Table Name
+     */
+    public void invalidate(@NotNull String tableName) {
+        negatives.remove(tableName);
+    }
+
+    /**
+     * Forget All Negative Results
+     */
+    public void clear() {
+        negatives.clear();
+    }
+
+    /**
+     * Read One Table, From The First Database Having It
+     *
+     * @param tableName Table Name
+     * @return the {@link TableSchema} instance, null only if every database answered without the table
+     * @throws IllegalStateException if no database has it and a database failed to answer
+     */
+    @Nullable
+    protected TableSchema doLoad(@NotNull String tableName) {
+        IllegalStateException failure = null;
+
+        for (JdbcTemplate jdbcTemplate : getJdbcTemplates()) {
+            try {
+                TableSchema result = doLoad(jdbcTemplate, tableName);
+                if (result != null) {
+                    return result;
+                }
+            } catch (IllegalStateException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return null;
+    }
+
+    /**
+     * Read One Table, From One Database
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
+     * @param tableName    Table Name
+     * @return the {@link TableSchema} instance, null if no such table
+     * @throws IllegalStateException if the database failed to answer
+     */
+    @Nullable
+    protected TableSchema doLoad(@NotNull JdbcTemplate jdbcTemplate, @NotNull String tableName) {
+        long startNanos = System.nanoTime();
+
+        try (Connection connection = doGetConnection(jdbcTemplate)) {
+            TableSchema result = TableSchemaReader.read(connection, tableName.trim());
+
+            LOGGER.debug("doLoad trace, tableName: {}, found: {}, elapsedMicros: {}",
+                    tableName, result != null, (System.nanoTime() - startNanos) / 1_000);
+            return result;
+        } catch (Exception ex) {
+            LOGGER.error("doLoad failed, tableName: {}, throwable: ", tableName, ex);
+            throw new IllegalStateException("doLoad failed, tableName: " + tableName, ex);
+        }
+    }
+
+    /**
+     * Get Connection
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
+     * @return the {@link Connection} instance
+     * @throws SQLException if a database access error occurs
+     */
+    @NotNull
+    protected Connection doGetConnection(@NotNull JdbcTemplate jdbcTemplate) throws SQLException {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Preconditions.requireNonNull(dataSource, "dataSource must not be null");
+
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Get The First {@link JdbcTemplate}
+     *
+     * @return the {@link JdbcTemplate} instance
+     */
+    @NotNull
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplates.getFirst();
+    }
+
+    @NotNull
+    public List<JdbcTemplate> getJdbcTemplates() {
+        return jdbcTemplates;
+    }
+
+    @NotNull
+    public Duration getNegativeTtl() {
+        return Duration.ofNanos(negativeTtlNanos);
+    }
+
+    public void setNegativeTtl(@NotNull Duration negativeTtl) {
+        Preconditions.requireNonNull(negativeTtl, "negativeTtl must not be null");
+
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    public int getMaxNegatives() {
+        return maxNegatives;
+    }
+
+    public void setMaxNegatives(int maxNegatives) {
+        if (maxNegatives < 0) {
+            throw new IllegalArgumentException("maxNegatives must not be negative, maxNegatives: " + maxNegatives);
+        }
+
+        this.maxNegatives = maxNegatives;
+    }
+
+}
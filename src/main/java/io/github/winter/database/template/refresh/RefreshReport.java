@@ -0,0 +1,102 @@
+package io.github.winter.database.template.refresh;
+
+/**
+ * Refresh Report
+ *
+ * @author changebooks@qq.com
+ */
+public final class RefreshReport {
+    /**
+     * Nothing Refreshed
+     */
+    public static final RefreshReport EMPTY = new RefreshReport(0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Tables In The Database
+     */
+    private final int total;
+
+    /**
+     * Tables Read
+     */
+    private final int loaded;
+
+    /**
+     * Tables Failed
+     */
+    private final int failed;
+
+    /**
+     * Tables Skipped, Fingerprint Unchanged
+     */
+    private final int unchanged;
+
+    /**
+     * Tables Removed, Gone From The Database
+     */
+    private final int removed;
+
+    /**
+     * Connections Used
+     */
+    private final int connections;
+
+    /**
+     * Elapsed Nanos
+     */
+    private final long elapsedNanos;
+
+    public RefreshReport(int total, int loaded, int failed, int unchanged, int removed, int connections, long elapsedNanos) {
+        this.total = total;
+        this.loaded = loaded;
+        this.failed = failed;
+        this.unchanged = unchanged;
+        this.removed = removed;
+        this.connections = connections;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getLoaded() {
+        return loaded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshReport{total=" + total +
+                ", loaded=" + loaded +
+                ", failed=" + failed +
+                ", unchanged=" + unchanged +
+                ", removed=" + removed +
+                ", connections=" + connections +
+                ", elapsedMillis=" + getElapsedMillis() + "}";
+    }
+
+}
@@ -0,0 +1,294 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.boot.sql.Preconditions;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 调度刷表概要
+ * <p>
+ * Pending refreshes are merged: refresh-all absorbs every table, a table asked twice is refreshed once.
+ * They run after the debounce window of quiet, or maxDelay after the first, on one thread, so one refresh in flight.
+ * Periodic refresh-all, if a period is set, is jittered so that pods do not hit the database together.
+ *
+ * @author changebooks@qq.com
+ */
+public class RefreshScheduler implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshScheduler.class);
+
+    /**
+     * Default Debounce
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500);
+
+    /**
+     * Default Max Delay, From The First Pending
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Default Jitter, Ratio of The Period
+     */
+    public static final double DEFAULT_JITTER = 0.1;
+
+    /**
+     * the {@link RefreshTableSchemaListener} instance
+     */
+    private final RefreshTableSchemaListener listener;
+
+    /**
+     * Single Thread, One Refresh In Flight
+     */
+    private final ScheduledExecutorService executorService;
+
+    /**
+     * Debounce Nanos
+     */
+    private final long debounceNanos;
+
+    /**
+     * Max Delay Nanos
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * Refresh All Pending ?, Guarded By this
+     */
+    private boolean pendingAll;
+
+    /**
+     * [ Table Name ] Pending, Guarded By this
+     */
+    private Set<String> pendingTableNames = new LinkedHashSet<>();
+
+    /**
+     * First Pending At, Guarded By this
+     */
+    private long firstPendingNanos;
+
+    /**
+     * Drain Scheduled, Guarded By this
+     */
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * Periodic Scheduled, Guarded By this
+     */
+    private ScheduledFuture<?> periodic;
+
+    /**
+     * Periodic Generation, Bumped On Every Start And Stop, A Run Of An Older One Does Not Re-arm, Guarded By this
+     */
+    private long periodicGeneration;
+
+    /**
+     * Submitted
+     */
+    private final LongAdder submittedCount = new LongAdder();
+
+    /**
+     * Refreshes Run
+     */
+    private final LongAdder runCount = new LongAdder();
+
+    public RefreshScheduler(RefreshTableSchemaListener listener) {
+        this(listener, DEFAULT_DEBOUNCE, DEFAULT_MAX_DELAY);
+    }
+
+    public RefreshScheduler(RefreshTableSchemaListener listener, Duration debounce, Duration maxDelay) {
+        Preconditions.requireNonNull(listener, "listener must not be null");
+        Preconditions.requireNonNull(debounce, "debounce must not be null");
+        Preconditions.requireNonNull(maxDelay, "maxDelay must not be null");
+
+        this.listener = listener;
+        this.debounceNanos = debounce.toNanos();
+        this.maxDelayNanos = Math.max(maxDelay.toNanos(), debounceNanos);
+        this.executorService = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("template-schema-refresh")
+                .daemon(true)
+                .factory());
+    }
+
+    /**
+     * Submit Refresh All
+     */
+    public synchronized void submitAll() {
+        submittedCount.increment();
+
+        pendingAll = true;
+        pendingTableNames.clear();
+
+        schedule();
+    }
+
+    /**
+     * Submit Refresh
+     *
+     * @param tableName Table Name, if null ? Refresh All
+     */
+    public synchronized void submit(@Nullable String tableName) {
+        if (tableName == null) {
+            submitAll();
+            return;
+        }
+
+        submittedCount.increment();
+
+        if (!pendingAll) {
+            pendingTableNames.add(tableName);
+        }
+
+        schedule();
+    }
+
+    /**
+     * Start Periodic Refresh All, Jittered By DEFAULT_JITTER
+     *
+     * @param period Period
+     */
+    public void startPeriodic(@NotNull Duration period) {
+        startPeriodic(period, DEFAULT_JITTER);
+    }
+
+    /**
+     * Start Periodic Refresh All
+     *
+     * @param period Period, Jittered By jitter * period
+     * @param jitter 0.0 ~ 1.0
+     */
+    public synchronized void startPeriodic(@NotNull Duration period, double jitter) {
+        Preconditions.requireNonNull(period, "period must not be null");
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive, period: " + period);
+        }
+
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("jitter must be in [0.0, 1.0], jitter: " + jitter);
+        }
+
+        if (periodic != null) {
+            periodic.cancel(false);
+        }
+
+        schedulePeriodic(++periodicGeneration, period.toNanos(), jitter);
+    }
+
+    /**
+     * Stop Periodic Refresh All
+     */
+    public synchronized void stopPeriodic() {
+        periodicGeneration++;
+        if (periodic != null) {
+            periodic.cancel(false);
+            periodic = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Schedule Drain, After Debounce, No Later Than maxDelay From The First Pending
+     */
+    private void schedule() {
+        long now = System.nanoTime();
+        if (firstPendingNanos == 0) {
+            firstPendingNanos = now;
+        }
+
+        long delay = Math.max(0, Math.min(debounceNanos, firstPendingNanos + maxDelayNanos - now));
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+
+        scheduled = executorService.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Schedule Periodic, Guarded By this
+     *
+     * @param generation  Periodic Generation, Of This Chain
+     * @param periodNanos Period Nanos
+     * @param jitter      Jitter Ratio
+     */
+    private void schedulePeriodic(long generation, long periodNanos, double jitter) {
+        long spread = (long) (periodNanos * jitter);
+        long delay = periodNanos + (spread > 0 ? ThreadLocalRandom.current().nextLong(-spread, spread + 1) : 0);
+
+        periodic = executorService.schedule(() -> {
+            synchronized (this) {
+                if (generation != periodicGeneration) {
+                    return;
+                }
+
+                submitAll();
+                schedulePeriodic(generation, periodNanos, jitter);
+            }
+        }, Math.max(delay, 1), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Drain Pending, On The Scheduler Thread
+     */
+    private void drain() {
+        boolean all;
+        Set<String> tableNames;
+
+        synchronized (this) {
+            all = pendingAll;
+            tableNames = pendingTableNames;
+
+            pendingAll = false;
+            pendingTableNames = new LinkedHashSet<>();
+            firstPendingNanos = 0;
+            scheduled = null;
+        }
+
+        if (!all && tableNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            runCount.increment();
+
+            if (all) {
+                listener.refreshAll();
+            } else {
+                for (String tableName : tableNames) {
+                    listener.refresh(tableName);
+                }
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("drain failed, all: {}, tableNames: {}, throwable: ", all, tableNames, ex);
+        }
+    }
+
+    @NotNull
+    public RefreshTableSchemaListener getListener() {
+        return listener;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    public long getRunCount() {
+        return runCount.sum();
+    }
+
+}
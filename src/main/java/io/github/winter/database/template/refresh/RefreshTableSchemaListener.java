@@ -4,6 +4,7 @@ import io.github.winter.boot.sql.Preconditions;
 import io.github.winter.database.table.TableNameReader;
 import io.github.winter.database.table.TableSchema;
 import io.github.winter.database.table.TableSchemaReader;
+import io.github.winter.database.template.RegistrySnapshot;
 import io.github.winter.database.template.TableSchemaRegistry;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
@@ -14,14 +15,33 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
 /**
  * 刷表概要
+ * <p>
+ * Built with one {@link JdbcTemplate} per database, e.g. one per executor of a
+ * {@link io.github.winter.database.template.routing.ShardTopology}: every database is listed, read and refreshed,
+ * the results are merged, and tables are removed only if every database answered.
  *
  * @author changebooks@qq.com
  */
@@ -29,28 +49,104 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTableSchemaListener.class);
 
+    /**
+     * Default Connections Used By refreshAll
+     */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /**
+     * Progress Reported Every 1 / PROGRESS_STEPS of Tables
+     */
+    private static final int PROGRESS_STEPS = 10;
+
+    /**
+     * Fingerprint of Every Base Table In One Query, Views Excluded, Reread Every Time
+     */
+    private static final String FINGERPRINT_SQL = "SELECT c.TABLE_NAME, MAX(t.CREATE_TIME) AS CREATE_TIME, COUNT(*) AS COLUMN_COUNT," +
+            " BIT_XOR(CRC32(CONCAT_WS('|', c.COLUMN_NAME, c.ORDINAL_POSITION, c.COLUMN_TYPE, c.IS_NULLABLE," +
+            " IFNULL(c.COLUMN_DEFAULT, CHAR(0)), c.COLUMN_KEY, c.EXTRA))) AS COLUMN_CHECKSUM" +
+            " FROM information_schema.COLUMNS c" +
+            " JOIN information_schema.TABLES t ON t.TABLE_SCHEMA = c.TABLE_SCHEMA AND t.TABLE_NAME = c.TABLE_NAME" +
+            " WHERE c.TABLE_SCHEMA = DATABASE() AND t.TABLE_TYPE = 'BASE TABLE'" +
+            " GROUP BY c.TABLE_NAME";
+
     /**
      * the {@link ApplicationEventPublisher} instance
      */
     private final ApplicationEventPublisher publisher;
 
     /**
-     * the {@link JdbcTemplate} instance
+     * [ the {@link JdbcTemplate} instance ], One Per Database
+     */
+    private final List<JdbcTemplate> jdbcTemplates;
+
+    /**
+     * [ Table Name : the {@link JdbcTemplate} instance ], of the database the table was last listed on
+     */
+    private final Map<String, JdbcTemplate> owners = new ConcurrentHashMap<>();
+
+    /**
+     * Connections Used By refreshAll, One Virtual Thread per Connection
+     */
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * Reread Only New Or Changed Tables ?
+     */
+    private boolean incremental = true;
+
+    /**
+     * [ Table Name : the {@link TableFingerprint} instance ], of the schemas in the registry
      */
-    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, TableFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * the {@link TableSchemaSnapshot} File, null ? No Snapshot
+     */
+    private Path snapshotPath;
+
+    /**
+     * the {@link TableSchemaCodec} instance, of the snapshot
+     */
+    private TableSchemaCodec snapshotCodec = new FieldTableSchemaCodec();
+
+    /**
+     * the {@link RefreshScheduler} instance, null ? Refresh On Every Event
+     */
+    private volatile RefreshScheduler refreshScheduler;
+
+    /**
+     * One refreshAll At A Time, Whoever Calls It
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
 
     public RefreshTableSchemaListener(ApplicationEventPublisher publisher, JdbcTemplate jdbcTemplate) {
         Preconditions.requireNonNull(publisher, "publisher must not be null");
         Preconditions.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
 
         this.publisher = publisher;
-        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTemplates = List.of(jdbcTemplate);
+    }
+
+    public RefreshTableSchemaListener(ApplicationEventPublisher publisher, List<JdbcTemplate> jdbcTemplates) {
+        Preconditions.requireNonNull(publisher, "publisher must not be null");
+        Preconditions.requireNonNull(jdbcTemplates, "jdbcTemplates must not be null");
+        if (jdbcTemplates.isEmpty()) {
+            throw new IllegalArgumentException("jdbcTemplates must not be empty");
+        }
+
+        this.publisher = publisher;
+        this.jdbcTemplates = List.copyOf(jdbcTemplates);
     }
 
     @Override
     public void onApplicationEvent(RefreshTableSchemaEvent event) {
         String tableName = event.getTableName();
-        if (tableName == null) {
+
+        RefreshScheduler scheduler = refreshScheduler;
+        if (scheduler != null) {
+            scheduler.submit(tableName);
+        } else if (tableName == null) {
             refreshAll();
         } else {
             refresh(tableName);
@@ -58,14 +154,14 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
     }
 
     /**
-     * Publish Refresh All
+     * Publish Refresh All, The Event Is Submitted To The {@link RefreshScheduler} If Set
      */
     public void publishRefreshAll() {
         Thread.ofVirtual().start(this::doPublishRefreshAll);
     }
 
     /**
-     * Publish Refresh
+     * Publish Refresh, The Event Is Submitted To The {@link RefreshScheduler} If Set
      *
      * @param tableName Table Name
      */
@@ -100,66 +196,378 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
     }
 
     /**
-     * Refresh All
+     * Refresh All, incremental ? Only New Or Changed Tables : Every Table
+     * <p>
+     * Tables are always listed by {@link TableNameReader}, as a full refresh does, fingerprints only pick what to reread:
+     * a table without a fingerprint, e.g. a view, is reread every time.
+     * Calls are serialized, a direct call waits for the one the {@link RefreshScheduler} runs.
+     *
+     * @return the {@link RefreshReport} instance
      */
-    public void refreshAll() {
-        Connection connection = doGetConnection();
-        if (connection == null) {
-            LOGGER.error("refreshAll failed, connection must not be null");
-            return;
+    @NotNull
+    public RefreshReport refreshAll() {
+        refreshLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+
+            Set<String> tableNames = new HashSet<>();
+            Map<JdbcTemplate, List<String>> loadTableNames = new HashMap<>();
+            Map<String, TableFingerprint> changedFingerprints = new HashMap<>();
+            boolean complete = true;
+
+            for (JdbcTemplate jdbcTemplate : getJdbcTemplates()) {
+                try (Connection connection = doGetConnection(jdbcTemplate)) {
+                    if (connection == null) {
+                        LOGGER.error("refreshAll failed, connection must not be null");
+                        complete = false;
+                        continue;
+                    }
+
+                    List<String> listed = doGetTableNames(connection);
+                    if (listed == null) {
+                        complete = false;
+                        continue;
+                    }
+
+                    List<String> load;
+
+                    Map<String, TableFingerprint> currentFingerprints = isIncremental() ? doGetFingerprints(connection) : null;
+                    if (currentFingerprints != null) {
+                        Map<String, TableFingerprint> changed = diffFingerprints(currentFingerprints);
+                        changedFingerprints.putAll(changed);
+
+                        load = new ArrayList<>();
+                        for (String tableName : listed) {
+                            if (!currentFingerprints.containsKey(tableName)) {
+                                fingerprints.remove(tableName);
+                                load.add(tableName);
+                            } else if (changed.containsKey(tableName)) {
+                                load.add(tableName);
+                            }
+                        }
+                    } else {
+                        fingerprints.keySet().removeAll(listed);
+                        load = listed;
+                    }
+
+                    tableNames.addAll(listed);
+                    for (String tableName : listed) {
+                        owners.put(tableName, jdbcTemplate);
+                    }
+
+                    if (!load.isEmpty()) {
+                        loadTableNames.put(jdbcTemplate, load);
+                    }
+                } catch (SQLException ex) {
+                    LOGGER.error("refreshAll failed, throwable: ", ex);
+                    complete = false;
+                }
+            }
+
+            if (tableNames.isEmpty() && !complete) {
+                return RefreshReport.EMPTY;
+            }
+
+            if (complete) {
+                fingerprints.keySet().retainAll(tableNames);
+                owners.keySet().retainAll(tableNames);
+            } else {
+                LOGGER.warn("refreshAll incomplete, not every database answered, no table is removed");
+            }
+
+            RefreshReport result = doRefreshAll(tableNames, loadTableNames, changedFingerprints, complete, startNanos);
+
+            LOGGER.info("refreshAll trace, report: {}", result);
+
+            Path path = getSnapshotPath();
+            if (path != null && (result.getLoaded() > 0 || result.getRemoved() > 0 || !Files.exists(path))) {
+                saveSnapshot(path);
+            }
+
+            return result;
+        } finally {
+            refreshLock.unlock();
         }
+    }
 
-        List<String> tableNames = doGetTableNames(connection);
-        if (tableNames == null) {
-            return;
+    /**
+     * Start, Load The Snapshot Then Fix Drift In The Background, No Snapshot ? refreshAll
+     *
+     * @param path Snapshot File
+     */
+    public void startFromSnapshot(@NotNull Path path) {
+        setSnapshotPath(path);
+
+        int loaded = loadSnapshot(path);
+        if (loaded > 0) {
+            publishRefreshAll();
+        } else {
+            refreshAll();
+        }
+    }
+
+    /**
+     * Load Snapshot Into The Registry, Never Throw
+     *
+     * @param path Snapshot File
+     * @return Tables Loaded
+     */
+    public int loadSnapshot(@NotNull Path path) {
+        if (!Files.isRegularFile(path)) {
+            LOGGER.info("loadSnapshot skipped, no snapshot, path: {}", path);
+            return 0;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            List<TableSchemaSnapshot.Entry> entries = TableSchemaSnapshot.read(path, getSnapshotCodec());
+            Map<String, TableSchema> tableSchemas = HashMap.newHashMap(entries.size());
+
+            for (TableSchemaSnapshot.Entry entry : entries) {
+                tableSchemas.put(entry.tableName(), entry.tableSchema());
+
+                TableFingerprint fingerprint = entry.fingerprint();
+                if (fingerprint != null) {
+                    fingerprints.put(entry.tableName(), fingerprint);
+                }
+            }
+
+            TableSchemaRegistry.putAll(tableSchemas);
+
+            LOGGER.info("loadSnapshot trace, tables: {}, elapsedMillis: {}, path: {}",
+                    entries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), path);
+            return entries.size();
+        } catch (Throwable ex) {
+            LOGGER.error("loadSnapshot failed, path: {}, throwable: ", path, ex);
+            return 0;
+        }
+    }
+
+    /**
+     * Save The Registry As Snapshot, Never Throw
+     *
+     * @param path Snapshot File
+     * @return Saved ? true : false
+     */
+    public boolean saveSnapshot(@NotNull Path path) {
+        try {
+            RegistrySnapshot snapshot = TableSchemaRegistry.getSnapshot();
+            List<TableSchemaSnapshot.Entry> entries = new ArrayList<>(snapshot.size());
+
+            for (Map.Entry<String, TableSchema> entry : snapshot.getTableSchemas().entrySet()) {
+                String tableName = entry.getKey();
+                entries.add(new TableSchemaSnapshot.Entry(tableName, fingerprints.get(tableName), entry.getValue()));
+            }
+
+            TableSchemaSnapshot.write(path, entries, getSnapshotCodec());
+            LOGGER.info("saveSnapshot trace, tables: {}, path: {}", entries.size(), path);
+            return true;
+        } catch (Throwable ex) {
+            LOGGER.error("saveSnapshot failed, path: {}, throwable: ", path, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Refresh All, Read Off To The Side Over Virtual Threads, One Connection Each, Every Database At Once, Then Publish Once
+     *
+     * @param tableNames          [ Table Name ], of every database
+     * @param loadTableNames      [ the {@link JdbcTemplate} instance : [ Table Name ] ], to read, from the database listing them
+     * @param changedFingerprints [ Table Name : the {@link TableFingerprint} instance ], kept once read
+     * @param complete            Every Database Answered ? Remove Tables Not Listed : Merge Only
+     * @param startNanos          Started At, {@link System#nanoTime()}
+     * @return the {@link RefreshReport} instance
+     */
+    @NotNull
+    protected RefreshReport doRefreshAll(@NotNull Set<String> tableNames, @NotNull Map<JdbcTemplate, List<String>> loadTableNames,
+                                         @NotNull Map<String, TableFingerprint> changedFingerprints, boolean complete, long startNanos) {
+        int total = tableNames.size();
+        int size = 0;
+        for (List<String> names : loadTableNames.values()) {
+            size += names.size();
+        }
+
+        int unchanged = total - size;
+
+        Map<String, TableSchema> tableSchemas = new ConcurrentHashMap<>();
+        AtomicInteger connections = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<JdbcTemplate, List<String>> entry : loadTableNames.entrySet()) {
+                executorService.execute(() ->
+                        connections.addAndGet(doLoadAll(entry.getKey(), entry.getValue(), tableSchemas, startNanos)));
+            }
+        }
+
+        int loaded = tableSchemas.size();
+        int failed = size - loaded;
+
+        int removed = 0;
+        if (complete) {
+            removed = TableSchemaRegistry.replaceAll(tableNames, tableSchemas);
+        } else {
+            TableSchemaRegistry.putAll(tableSchemas);
+        }
+
+        for (String tableName : tableSchemas.keySet()) {
+            TableFingerprint fingerprint = changedFingerprints.get(tableName);
+            if (fingerprint != null) {
+                fingerprints.put(tableName, fingerprint);
+            }
         }
 
-        removeAll(tableNames);
+        return new RefreshReport(total, loaded, failed, unchanged, removed, connections.get(), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Load All Of One Database, Fanned Out Over Virtual Threads, One Connection Each
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
+     * @param tableNames   [ Table Name ], to read
+     * @param tableSchemas [ Table Name : the {@link TableSchema} instance ], to put into
+     * @param startNanos   Started At, {@link System#nanoTime()}
+     * @return Connections Used
+     */
+    protected int doLoadAll(@NotNull JdbcTemplate jdbcTemplate,
+                            @NotNull List<String> tableNames, @NotNull Map<String, TableSchema> tableSchemas, long startNanos) {
+        int size = tableNames.size();
+        int workers = Math.min(getParallelism(), size);
+        int progressStep = Math.max(1, size / PROGRESS_STEPS);
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger connections = new AtomicInteger();
+
+        Runnable worker = () -> {
+            try (Connection connection = doGetConnection(jdbcTemplate)) {
+                if (connection == null) {
+                    LOGGER.error("doLoadAll failed, connection must not be null");
+                    return;
+                }
+
+                connections.incrementAndGet();
+
+                for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                    String tableName = tableNames.get(i);
+                    TableSchema tableSchema = tableName != null ? doLoad(connection, tableName) : null;
+                    if (tableSchema != null) {
+                        tableSchemas.put(tableName, tableSchema);
+                    }
+
+                    int done = processed.incrementAndGet();
+                    if (done % progressStep == 0) {
+                        LOGGER.info("doLoadAll progress, {}/{} tables, elapsedMillis: {}",
+                                done, size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    }
+                }
+            } catch (Throwable ex) {
+                LOGGER.error("doLoadAll failed, throwable: ", ex);
+            }
+        };
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executorService.execute(worker);
+            }
+        }
+
+        int skipped = size - processed.get();
+        if (skipped > 0) {
+            LOGGER.error("doLoadAll failed, {} tables skipped, no connection", skipped);
+        }
 
-        for (String tableName : tableNames) {
-            if (tableName != null) {
-                doRefresh(connection, tableName);
+        return connections.get();
+    }
+
+    /**
+     * Diff Fingerprints
+     *
+     * @param currentFingerprints [ Table Name : the {@link TableFingerprint} instance ], of one database
+     * @return [ Table Name : the {@link TableFingerprint} instance ], new or changed, or not in the registry
+     */
+    @NotNull
+    protected Map<String, TableFingerprint> diffFingerprints(@NotNull Map<String, TableFingerprint> currentFingerprints) {
+        Map<String, TableFingerprint> result = new HashMap<>();
+        for (Map.Entry<String, TableFingerprint> entry : currentFingerprints.entrySet()) {
+            String tableName = entry.getKey();
+            TableFingerprint fingerprint = entry.getValue();
+
+            if (!fingerprint.equals(fingerprints.get(tableName)) || !TableSchemaRegistry.contains(tableName)) {
+                result.put(tableName, fingerprint);
             }
         }
+
+        return result;
+    }
+
+    /**
+     * Forget Fingerprints, The Next refreshAll Rereads Every Table
+     */
+    public void clearFingerprints() {
+        fingerprints.clear();
     }
 
     /**
      * Remove All
      *
      * @param tableNames [ Table Name ]
+     * @return Tables Removed
      */
-    public void removeAll(List<String> tableNames) {
+    public int removeAll(List<String> tableNames) {
         if (tableNames == null) {
-            return;
+            return 0;
         }
 
+        Set<String> existTableNames = new HashSet<>(tableNames);
         List<String> removeTableNames = TableSchemaRegistry.getTableNames()
                 .stream()
                 .filter(Objects::nonNull)
-                .filter(Predicate.not(tableNames::contains))
+                .filter(Predicate.not(existTableNames::contains))
                 .toList();
         if (removeTableNames.isEmpty()) {
+            return 0;
+        }
+
+        return TableSchemaRegistry.removeAll(removeTableNames);
+    }
+
+    /**
+     * Refresh, On The Database Listing The Table, Unknown ? Every Database Until Found
+     *
+     * @param tableName Table Name
+     */
+    public void refresh(String tableName) {
+        JdbcTemplate owner = tableName != null ? owners.get(tableName) : null;
+        if (owner != null && refresh(owner, tableName)) {
             return;
         }
 
-        for (String tableName : removeTableNames) {
-            if (tableName != null) {
-                TableSchemaRegistry.remove(tableName);
+        for (JdbcTemplate jdbcTemplate : getJdbcTemplates()) {
+            if (jdbcTemplate != owner && refresh(jdbcTemplate, tableName)) {
+                owners.put(tableName, jdbcTemplate);
+                return;
             }
         }
     }
 
     /**
-     * Refresh
+     * Refresh, On One Database
      *
-     * @param tableName Table Name
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
+     * @param tableName    Table Name
+     * @return Refreshed ? true : false
      */
-    public void refresh(String tableName) {
-        Connection connection = doGetConnection();
-        if (connection != null) {
-            doRefresh(connection, tableName);
-        } else {
+    protected boolean refresh(@NotNull JdbcTemplate jdbcTemplate, String tableName) {
+        try (Connection connection = doGetConnection(jdbcTemplate)) {
+            if (connection != null) {
+                return doRefresh(connection, tableName);
+            }
+
             LOGGER.error("refresh failed, connection must not be null, tableName: {}", tableName);
+            return false;
+        } catch (SQLException ex) {
+            LOGGER.error("refresh failed, tableName: {}, throwable: ", tableName, ex);
+            return false;
         }
     }
 
@@ -168,16 +576,19 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
      *
      * @param connection the {@link Connection} instance
      * @param tableName  Table Name
+     * @return Refreshed ? true : false
      */
-    protected void doRefresh(Connection connection, String tableName) {
+    protected boolean doRefresh(Connection connection, String tableName) {
         try {
             Preconditions.requireNonNull(connection, "connection must not be null, tableName: " + tableName);
             Preconditions.requireNonNull(tableName, "tableName must not be null");
 
             doRegistry(connection, tableName);
-            LOGGER.info("doRefresh trace, tableName: {}", tableName);
+            LOGGER.debug("doRefresh trace, tableName: {}", tableName);
+            return true;
         } catch (Throwable ex) {
             LOGGER.error("doRefresh failed, tableName: {}, throwable: ", tableName, ex);
+            return false;
         }
     }
 
@@ -192,13 +603,83 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
      *                      this method is called on a closed result set
      */
     protected void doRegistry(@NotNull Connection connection, @NotNull String tableName) throws SQLException {
+        TableSchema tableSchema = doRead(connection, tableName);
+        TableSchemaRegistry.put(tableSchema);
+    }
+
+    /**
+     * Load Schema, Not Registered, Never Throw
+     *
+     * @param connection the {@link Connection} instance
+     * @param tableName  Table Name
+     * @return the {@link TableSchema} instance, null if failed
+     */
+    @Nullable
+    protected TableSchema doLoad(@NotNull Connection connection, @NotNull String tableName) {
+        try {
+            TableSchema result = doRead(connection, tableName);
+            LOGGER.debug("doLoad trace, tableName: {}", tableName);
+            return result;
+        } catch (Throwable ex) {
+            LOGGER.error("doLoad failed, tableName: {}, throwable: ", tableName, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Read Schema
+     *
+     * @param connection the {@link Connection} instance
+     * @param tableName  Table Name
+     * @return the {@link TableSchema} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    @NotNull
+    protected TableSchema doRead(@NotNull Connection connection, @NotNull String tableName) throws SQLException {
         String trimmedName = tableName.trim();
         Preconditions.requireNonEmpty(trimmedName, "tableName must not be empty");
 
         TableSchema tableSchema = TableSchemaReader.read(connection, trimmedName);
         Preconditions.requireNonNull(tableSchema, "unsupported tableName: " + trimmedName + ", dbName: " + connection.getCatalog());
 
-        TableSchemaRegistry.put(tableSchema);
+        return tableSchema;
+    }
+
+    /**
+     * Get Fingerprints
+     *
+     * @param connection the {@link Connection} instance
+     * @return [ Table Name : the {@link TableFingerprint} instance ], null if failed or empty
+     */
+    @Nullable
+    protected Map<String, TableFingerprint> doGetFingerprints(@NotNull Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(FINGERPRINT_SQL)) {
+            Map<String, TableFingerprint> result = new HashMap<>();
+
+            while (resultSet.next()) {
+                String tableName = resultSet.getString("TABLE_NAME");
+                if (tableName != null) {
+                    result.put(tableName, new TableFingerprint(
+                            resultSet.getString("CREATE_TIME"),
+                            resultSet.getLong("COLUMN_COUNT"),
+                            resultSet.getLong("COLUMN_CHECKSUM")));
+                }
+            }
+
+            if (result.isEmpty()) {
+                LOGGER.error("doGetFingerprints failed, fingerprints must not be empty, dbName: " + connection.getCatalog());
+                return null;
+            }
+
+            return result;
+        } catch (Throwable ex) {
+            LOGGER.error("doGetFingerprints failed, fallback to full refresh, throwable: ", ex);
+            return null;
+        }
     }
 
     /**
@@ -232,12 +713,13 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
     /**
      * Get Connection
      *
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
      * @return the {@link Connection} instance
      */
     @Nullable
-    protected Connection doGetConnection() {
+    protected Connection doGetConnection(@NotNull JdbcTemplate jdbcTemplate) {
         try {
-            DataSource dataSource = doGetDataSource();
+            DataSource dataSource = doGetDataSource(jdbcTemplate);
             Preconditions.requireNonNull(dataSource, "dataSource must not be null");
 
             return dataSource.getConnection();
@@ -250,11 +732,11 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
     /**
      * Get DataSource
      *
+     * @param jdbcTemplate the {@link JdbcTemplate} instance, of the database
      * @return the {@link DataSource} instance
      */
     @Nullable
-    protected DataSource doGetDataSource() {
-        JdbcTemplate jdbcTemplate = getJdbcTemplate();
+    protected DataSource doGetDataSource(@NotNull JdbcTemplate jdbcTemplate) {
         return jdbcTemplate.getDataSource();
     }
 
@@ -263,9 +745,68 @@ public class RefreshTableSchemaListener implements ApplicationListener<RefreshTa
         return publisher;
     }
 
+    /**
+     * Get The First {@link JdbcTemplate}
+     *
+     * @return the {@link JdbcTemplate} instance
+     */
     @NotNull
     public JdbcTemplate getJdbcTemplate() {
-        return jdbcTemplate;
+        return jdbcTemplates.getFirst();
+    }
+
+    @NotNull
+    public List<JdbcTemplate> getJdbcTemplates() {
+        return jdbcTemplates;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0, parallelism: " + parallelism);
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    @Nullable
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(@Nullable Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    @NotNull
+    public TableSchemaCodec getSnapshotCodec() {
+        return snapshotCodec;
+    }
+
+    public void setSnapshotCodec(@NotNull TableSchemaCodec snapshotCodec) {
+        Preconditions.requireNonNull(snapshotCodec, "snapshotCodec must not be null");
+
+        this.snapshotCodec = snapshotCodec;
+    }
+
+    @Nullable
+    public RefreshScheduler getRefreshScheduler() {
+        return refreshScheduler;
+    }
+
+    public void setRefreshScheduler(@Nullable RefreshScheduler refreshScheduler) {
+        this.refreshScheduler = refreshScheduler;
     }
 
 }
@@ -0,0 +1,12 @@
+package io.github.winter.database.template.refresh;
+
+/**
+ * Table Fingerprint, Changed ? Reread The Schema
+ *
+ * @param createTime     information_schema.TABLES.CREATE_TIME, changed by ALTER TABLE that rebuilds
+ * @param columnCount    Column Num
+ * @param columnChecksum BIT_XOR of CRC32 per Column Definition
+ * @author changebooks@qq.com
+ */
+public record TableFingerprint(String createTime, long columnCount, long columnChecksum) {
+}
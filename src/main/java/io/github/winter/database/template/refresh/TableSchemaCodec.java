@@ -0,0 +1,48 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.database.table.TableSchema;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Table Schema Codec, of the {@link TableSchemaSnapshot}
+ *
+ * @author changebooks@qq.com
+ */
+public interface TableSchemaCodec {
+    /**
+     * Encode
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @return Bytes
+     * @throws IOException if the schema cannot be encoded
+     */
+    byte[] encode(TableSchema tableSchema) throws IOException;
+
+    /**
+     * Decode
+     *
+     * @param bytes Bytes
+     * @return the {@link TableSchema} instance
+     * @throws IOException if the bytes are not a schema
+     */
+    TableSchema decode(byte[] bytes) throws IOException;
+
+    /**
+     * Decode, From The Position To The Limit Of The Buffer
+     * <p>
+     * Override to read the buffer in place, by default the bytes are copied.
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return the {@link TableSchema} instance
+     * @throws IOException if the bytes are not a schema
+     */
+    default TableSchema decode(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        return decode(bytes);
+    }
+
+}
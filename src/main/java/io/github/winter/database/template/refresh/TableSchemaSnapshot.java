@@ -0,0 +1,305 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.table.TableSchema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Table Schema Snapshot, Local File For Fast Cold Start
+ * <p>
+ * magic, version, writer (library version and codec), count, then per table: length, name, fingerprint, encoded schema, CRC32.
+ * Written to a temporary file then moved over, read through a memory-mapped buffer,
+ * each schema decoded from a slice of it. Every length is checked against the bytes left,
+ * a snapshot of another writer is refused, a table whose CRC32 does not match is skipped,
+ * it is not in the registry then, and the next refreshAll rereads it.
+ *
+ * @author changebooks@qq.com
+ */
+public final class TableSchemaSnapshot {
+    /**
+     * WTSS
+     */
+    private static final int MAGIC = 0x57545353;
+
+    /**
+     * Format Version
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Absent String
+     */
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * Bytes Of The Smallest Entry, Length, Name Length And CRC32
+     */
+    private static final int MIN_ENTRY_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Library Version, Of The Jar, dev If Not Packaged
+     */
+    private static final String LIBRARY_VERSION = libraryVersion();
+
+    private TableSchemaSnapshot() {
+    }
+
+    /**
+     * Entry
+     *
+     * @param tableName   Table Name
+     * @param fingerprint the {@link TableFingerprint} instance, null if unknown
+     * @param tableSchema the {@link TableSchema} instance
+     */
+    public record Entry(@NotNull String tableName, @Nullable TableFingerprint fingerprint, @NotNull TableSchema tableSchema) {
+    }
+
+    /**
+     * Write
+     *
+     * @param path    Snapshot File
+     * @param entries [ the {@link Entry} instance ]
+     * @param codec   the {@link TableSchemaCodec} instance
+     * @throws IOException if a table cannot be encoded or the file cannot be written
+     */
+    public static void write(@NotNull Path path, @NotNull List<Entry> entries, @NotNull TableSchemaCodec codec) throws IOException {
+        Preconditions.requireNonNull(path, "path must not be null");
+        Preconditions.requireNonNull(codec, "codec must not be null");
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writeString(output, writer(codec));
+                output.writeInt(entries.size());
+
+                ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(1024);
+                DataOutputStream entryOutput = new DataOutputStream(entryBytes);
+                CRC32 crc32 = new CRC32();
+
+                for (Entry entry : entries) {
+                    entryBytes.reset();
+                    writeString(entryOutput, entry.tableName());
+
+                    TableFingerprint fingerprint = entry.fingerprint();
+                    entryOutput.writeBoolean(fingerprint != null);
+                    if (fingerprint != null) {
+                        writeString(entryOutput, fingerprint.createTime());
+                        entryOutput.writeLong(fingerprint.columnCount());
+                        entryOutput.writeLong(fingerprint.columnChecksum());
+                    }
+
+                    byte[] bytes = codec.encode(entry.tableSchema());
+                    entryOutput.writeInt(bytes.length);
+                    entryOutput.write(bytes);
+                    entryOutput.flush();
+
+                    crc32.reset();
+                    crc32.update(entryBytes.toByteArray());
+
+                    output.writeInt(entryBytes.size());
+                    entryBytes.writeTo(output);
+                    output.writeLong(crc32.getValue());
+                }
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Read, Memory-Mapped
+     *
+     * @param path  Snapshot File
+     * @param codec the {@link TableSchemaCodec} instance
+     * @return [ the {@link Entry} instance ], without the tables whose CRC32 does not match
+     * @throws IOException if the file is missing, corrupted, or of another version or writer
+     */
+    @NotNull
+    public static List<Entry> read(@NotNull Path path, @NotNull TableSchemaCodec codec) throws IOException {
+        Preconditions.requireNonNull(path, "path must not be null");
+        Preconditions.requireNonNull(codec, "codec must not be null");
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("not a table schema snapshot, path: " + path);
+            }
+
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("unsupported version: " + version + ", path: " + path);
+            }
+
+            String writer = readString(buffer);
+            if (!writer(codec).equals(writer)) {
+                throw new StreamCorruptedException("snapshot of another writer: " + writer + ", path: " + path);
+            }
+
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_ENTRY_BYTES) {
+                throw new StreamCorruptedException("count out of bounds, count: " + count + ", path: " + path);
+            }
+
+            List<Entry> result = new ArrayList<>(count);
+            CRC32 crc32 = new CRC32();
+
+            for (int i = 0; i < count; i++) {
+                int entryLength = buffer.getInt();
+                if (entryLength < 0 || entryLength > buffer.remaining() - Long.BYTES) {
+                    throw new StreamCorruptedException("entry length out of bounds, index: " + i + ", path: " + path);
+                }
+
+                int position = buffer.position();
+                ByteBuffer entryBuffer = buffer.slice(position, entryLength);
+                buffer.position(position + entryLength);
+                long checksum = buffer.getLong();
+
+                crc32.reset();
+                crc32.update(entryBuffer.duplicate());
+                if (crc32.getValue() != checksum) {
+                    continue;
+                }
+
+                String tableName = readString(entryBuffer);
+                if (tableName == null) {
+                    throw new StreamCorruptedException("tableName must not be null, index: " + i + ", path: " + path);
+                }
+
+                TableFingerprint fingerprint = null;
+                if (entryBuffer.get() != 0) {
+                    fingerprint = new TableFingerprint(readString(entryBuffer), entryBuffer.getLong(), entryBuffer.getLong());
+                }
+
+                int length = readLength(entryBuffer);
+                int schemaPosition = entryBuffer.position();
+                ByteBuffer bytes = entryBuffer.slice(schemaPosition, length);
+
+                result.add(new Entry(tableName, fingerprint, codec.decode(bytes)));
+            }
+
+            return result;
+        } catch (RuntimeException ex) {
+            throw new StreamCorruptedException("corrupted snapshot, path: " + path + ", message: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Write String, Length And UTF-8
+     *
+     * @param output the {@link DataOutputStream} instance
+     * @param value  String, Nullable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read String, Length And UTF-8
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return String, Nullable
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        requireLength(buffer, length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read A Length, Within The Bytes Left
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @return Length
+     */
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        requireLength(buffer, length);
+        return length;
+    }
+
+    /**
+     * Require A Length Within The Bytes Left, A Corrupted Length Never Allocates
+     *
+     * @param buffer the {@link ByteBuffer} instance
+     * @param length Length
+     * @throws IllegalArgumentException if negative or beyond the bytes left
+     */
+    static void requireLength(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("length out of bounds, length: " + length + ", remaining: " + buffer.remaining());
+        }
+    }
+
+    /**
+     * Writer, Library Version And Codec, Another Writer Invalidates The Snapshot
+     *
+     * @param codec the {@link TableSchemaCodec} instance
+     * @return Writer
+     */
+    private static String writer(TableSchemaCodec codec) {
+        return LIBRARY_VERSION + "/" + codec.getClass().getName();
+    }
+
+    /**
+     * Library Version
+     *
+     * @return Implementation-Version Of The Jar, dev If Not Packaged
+     */
+    private static String libraryVersion() {
+        Package library = TableSchemaSnapshot.class.getPackage();
+        String version = library != null ? library.getImplementationVersion() : null;
+        return version != null ? version : "dev";
+    }
+
+}
@@ -0,0 +1,448 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import io.github.winter.database.template.OperationType;
+import io.github.winter.database.template.TemplateInterceptor;
+import io.github.winter.database.template.TemplateInvocation;
+import io.github.winter.database.template.deadline.Deadline;
+import io.github.winter.database.template.metrics.HistogramSnapshot;
+import io.github.winter.database.template.metrics.LatencyHistogram;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 对冲读
+ * <p>
+ * Add after the {@link ReadWriteInterceptor}, with the same replicas, or after the {@link ShardTopology}, built from it:
+ * a read routed to a replica that has not answered within the observed percentile latency
+ * is sent again to another replica of the same group, the first answer wins,
+ * the other is cancelled. Both attempts run under the caller's {@link Deadline}. Hedges are paid from a budget of budgetPercent of reads, reads pinned to the primary never hedge.
+ * <p>
+ * The loser is cancelled by interrupting its thread, which stops the statement on the database only if the executors
+ * are built on a {@link io.github.winter.database.template.deadline.DeadlineDataSource}, whose watchdog calls
+ * {@link java.sql.Statement#cancel()} for an interrupted thread; otherwise the loser runs to its end and holds
+ * its connection, so build the replica executors on a DeadlineDataSource.
+ * The latency percentile counts every answered read: the first attempt's latency if it answered first,
+ * else its elapsed time when the hedge answered, a lower bound, so slow first attempts are not left out.
+ *
+ * @author changebooks@qq.com
+ */
+public class HedgingInterceptor implements TemplateInterceptor, AutoCloseable {
+    /**
+     * Default Percentile, Of The First Attempt Latency
+     */
+    public static final double DEFAULT_PERCENTILE = 95.0;
+
+    /**
+     * Default Budget, Percent Of Reads
+     */
+    public static final double DEFAULT_BUDGET_PERCENT = 5.0;
+
+    /**
+     * Default Min Delay, Also The Delay Before Enough Samples
+     */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(5);
+
+    /**
+     * Samples Needed To Move The Threshold
+     */
+    private static final long MIN_SAMPLES = 100;
+
+    /**
+     * Threshold Recomputed Every
+     */
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Budget Tokens Of One Hedge
+     */
+    private static final long HEDGE_COST = 1_000_000L;
+
+    /**
+     * Budget Tokens Saved At Most, Hedges In A Burst
+     */
+    private static final long MAX_BURST = 10;
+
+    /**
+     * [ the {@link Replica} instance ]
+     */
+    private final List<Replica> replicas;
+
+    /**
+     * [ [ the {@link Replica} instance ] ], Replicas Of One Primary Each, A Hedge Stays In The Group
+     */
+    private final List<List<Replica>> groups;
+
+    /**
+     * Runs Both Attempts
+     */
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * First Attempt Latency, Of The Current Window, Elapsed When The Hedge Answered If It Lost
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Window Start Nanos
+     */
+    private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Budget Tokens
+     */
+    private final AtomicLong budget = new AtomicLong(HEDGE_COST);
+
+    /**
+     * [ the {@link OperationType} instance ] Hedged, Read Only
+     */
+    private volatile Set<OperationType> types = EnumSet.of(OperationType.SELECT_LIST, OperationType.SELECT_ONE,
+            OperationType.SELECT_COUNT, OperationType.CHECK_EXIST, OperationType.CHECK_EXIST_ALL);
+
+    /**
+     * Percentile, 0.0 ~ 100.0
+     */
+    private volatile double percentile = DEFAULT_PERCENTILE;
+
+    /**
+     * Budget Tokens Saved Per Read
+     */
+    private volatile long budgetPerRead = (long) (HEDGE_COST * DEFAULT_BUDGET_PERCENT / 100.0);
+
+    /**
+     * Min Delay Nanos
+     */
+    private volatile long minDelayNanos = DEFAULT_MIN_DELAY.toNanos();
+
+    /**
+     * Delay Before Hedging Nanos
+     */
+    private volatile long thresholdNanos = minDelayNanos;
+
+    /**
+     * Hedges Sent
+     */
+    private final LongAdder hedgeCount = new LongAdder();
+
+    /**
+     * Hedges Answered First
+     */
+    private final LongAdder hedgeWinCount = new LongAdder();
+
+    /**
+     * Hedges Skipped, Out Of Budget
+     */
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    public HedgingInterceptor(@NotNull List<Replica> replicas) {
+        Preconditions.requireNonNull(replicas, "replicas must not be null");
+
+        this.replicas = List.copyOf(replicas);
+        this.groups = List.of(this.replicas);
+    }
+
+    public HedgingInterceptor(@NotNull ShardTopology shardTopology) {
+        Preconditions.requireNonNull(shardTopology, "shardTopology must not be null");
+
+        List<Replica> replicas = new ArrayList<>();
+        List<List<Replica>> groups = new ArrayList<>();
+        for (ReadWriteInterceptor group : shardTopology.getGroups()) {
+            replicas.addAll(group.getReplicas());
+            groups.add(group.getReplicas());
+        }
+
+        this.replicas = List.copyOf(replicas);
+        this.groups = List.copyOf(groups);
+    }
+
+    @Override
+    public <T> T intercept(TemplateInvocation<T> invocation) {
+        if (!types.contains(invocation.getType())) {
+            return invocation.proceed();
+        }
+
+        Executor first = invocation.getExecutor();
+        Replica second = chooseOther(first);
+        if (second == null) {
+            return invocation.proceed();
+        }
+
+        deposit();
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executorService);
+        List<Future<T>> futures = new ArrayList<>(2);
+
+        Deadline deadline = Deadline.current();
+        AtomicBoolean answered = new AtomicBoolean();
+        long startNanos = System.nanoTime();
+
+        TemplateInvocation<T> firstInvocation = invocation.fork(first);
+        futures.add(completionService.submit(() -> {
+            Deadline.Scope scope = Deadline.within(deadline);
+            try {
+                T result = firstInvocation.proceed();
+                if (answered.compareAndSet(false, true)) {
+                    histogram.record(System.nanoTime() - startNanos);
+                }
+
+                return result;
+            } finally {
+                scope.close();
+            }
+        }));
+
+        try {
+            Future<T> done = completionService.poll(getThresholdNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                if (withdraw()) {
+                    hedgeCount.increment();
+
+                    TemplateInvocation<T> secondInvocation = invocation.fork(second.getExecutor());
+                    futures.add(completionService.submit(() -> {
+                        Deadline.Scope scope = Deadline.within(deadline);
+                        second.acquire();
+                        try {
+                            T result = secondInvocation.proceed();
+                            if (answered.compareAndSet(false, true)) {
+                                histogram.record(System.nanoTime() - startNanos);
+                            }
+
+                            return result;
+                        } finally {
+                            second.release();
+                            scope.close();
+                        }
+                    }));
+                } else {
+                    budgetExhaustedCount.increment();
+                }
+
+                done = completionService.take();
+            }
+
+            int remaining = futures.size();
+            while (true) {
+                remaining--;
+                try {
+                    T result = done.get();
+                    if (done != futures.getFirst()) {
+                        hedgeWinCount.increment();
+                    }
+
+                    return result;
+                } catch (ExecutionException ex) {
+                    if (remaining == 0) {
+                        throw unwrap(ex);
+                    }
+                }
+
+                done = completionService.take();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("hedge interrupted, tableName: " + invocation.getJoinedTableName(), ex);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Choose The Least Outstanding Replica Other Than The First, Of The First's Group
+     *
+     * @param first the {@link Executor} instance, of the first attempt
+     * @return the {@link Replica} instance, null if the first is not a replica, or no other replica in its group
+     */
+    @Nullable
+    protected Replica chooseOther(@NotNull Executor first) {
+        for (List<Replica> group : groups) {
+            boolean found = false;
+            Replica result = null;
+            int least = Integer.MAX_VALUE;
+
+            for (Replica replica : group) {
+                if (replica.getExecutor() == first) {
+                    found = true;
+                    continue;
+                }
+
+                int outstanding = replica.getOutstanding();
+                if (outstanding < least) {
+                    least = outstanding;
+                    result = replica;
+                }
+            }
+
+            if (found) {
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Delay Before Hedging, Recomputed Once A Window From The Percentile Of First Attempts
+     *
+     * @return Nanos
+     */
+    public long getThresholdNanos() {
+        long now = System.nanoTime();
+        long windowStart = windowStartNanos.get();
+
+        if (now - windowStart >= WINDOW_NANOS && windowStartNanos.compareAndSet(windowStart, now)) {
+            HistogramSnapshot snapshot = histogram.snapshot();
+            if (snapshot.getCount() >= MIN_SAMPLES) {
+                thresholdNanos = Math.max(minDelayNanos, snapshot.getValueAtPercentile(percentile));
+                histogram.reset();
+            }
+        }
+
+        return thresholdNanos;
+    }
+
+    /**
+     * Save Budget, Once Per Hedgeable Read
+     */
+    private void deposit() {
+        long perRead = budgetPerRead;
+        budget.accumulateAndGet(perRead, (current, add) -> Math.min(current + add, HEDGE_COST * MAX_BURST));
+    }
+
+    /**
+     * Pay One Hedge
+     *
+     * @return paid ? true : false
+     */
+    private boolean withdraw() {
+        while (true) {
+            long current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+
+            if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Unwrap
+     *
+     * @param ex the {@link ExecutionException} instance
+     * @return the {@link RuntimeException} instance, thrown by the attempt
+     */
+    private static RuntimeException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(cause);
+    }
+
+    @NotNull
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    @NotNull
+    public Set<OperationType> getTypes() {
+        return types;
+    }
+
+    public void setTypes(@NotNull Set<OperationType> types) {
+        Preconditions.requireNonNull(types, "types must not be null");
+
+        EnumSet<OperationType> result = EnumSet.noneOf(OperationType.class);
+        for (OperationType type : types) {
+            if (!type.isRead()) {
+                throw new IllegalArgumentException("type must be read only, type: " + type);
+            }
+
+            result.add(type);
+        }
+
+        this.types = result;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        if (percentile <= 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be in (0.0, 100.0], percentile: " + percentile);
+        }
+
+        this.percentile = percentile;
+    }
+
+    public double getBudgetPercent() {
+        return budgetPerRead * 100.0 / HEDGE_COST;
+    }
+
+    public void setBudgetPercent(double budgetPercent) {
+        if (budgetPercent < 0.0 || budgetPercent > 100.0) {
+            throw new IllegalArgumentException("budgetPercent must be in [0.0, 100.0], budgetPercent: " + budgetPercent);
+        }
+
+        this.budgetPerRead = (long) (HEDGE_COST * budgetPercent / 100.0);
+    }
+
+    @NotNull
+    public Duration getMinDelay() {
+        return Duration.ofNanos(minDelayNanos);
+    }
+
+    public void setMinDelay(@NotNull Duration minDelay) {
+        Preconditions.requireNonNull(minDelay, "minDelay must not be null");
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay must not be negative, minDelay: " + minDelay);
+        }
+
+        this.minDelayNanos = minDelay.toNanos();
+        this.thresholdNanos = Math.max(thresholdNanos, minDelayNanos);
+    }
+
+}
@@ -0,0 +1,250 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import io.github.winter.database.template.RoutingInterceptor;
+import io.github.winter.database.template.TemplateInvocation;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 读写分离
+ * <p>
+ * Writes go to the primary, reads to the replica with the fewest outstanding requests.
+ * After a write, the same thread reads the primary for readYourWritesWindow,
+ * inside {@link #pinPrimary()} or a Spring transaction every read goes to the primary.
+ * Sharded, one per shard inside the {@link ShardRange}, not added next to the {@link ShardTopology}.
+ *
+ * @author changebooks@qq.com
+ */
+public class ReadWriteInterceptor implements RoutingInterceptor {
+    /**
+     * Default Read-Your-Writes Window
+     */
+    public static final Duration DEFAULT_READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(1);
+
+    /**
+     * the {@link Executor} instance, of the primary
+     */
+    private final Executor primary;
+
+    /**
+     * [ the {@link Replica} instance ], Empty ? All To The Primary
+     */
+    private final List<Replica> replicas;
+
+    /**
+     * Last Write Nanos, Of This Thread
+     */
+    private final ThreadLocal<long[]> lastWrite = ThreadLocal.withInitial(() -> new long[]{0L, 0L});
+
+    /**
+     * Pin Depth, Of This Thread
+     */
+    private final ThreadLocal<int[]> pinDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Read-Your-Writes Window Nanos, 0 ? Off
+     */
+    private volatile long readYourWritesNanos = DEFAULT_READ_YOUR_WRITES_WINDOW.toNanos();
+
+    /**
+     * Reads Sent To The Primary
+     */
+    private final LongAdder primaryReadCount = new LongAdder();
+
+    public ReadWriteInterceptor(@NotNull Executor primary, @NotNull List<Replica> replicas) {
+        Preconditions.requireNonNull(primary, "primary must not be null");
+        Preconditions.requireNonNull(replicas, "replicas must not be null");
+
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public <T> T intercept(TemplateInvocation<T> invocation) {
+        if (!invocation.getType().isRead()) {
+            invocation.setExecutor(primary);
+            try {
+                return invocation.proceed();
+            } finally {
+                markWrite();
+            }
+        }
+
+        Replica replica = isPrimaryPinned() ? null : choose();
+        if (replica == null) {
+            primaryReadCount.increment();
+            invocation.setExecutor(primary);
+            return invocation.proceed();
+        }
+
+        replica.acquire();
+        try {
+            invocation.setExecutor(replica.getExecutor());
+            return invocation.proceed();
+        } finally {
+            replica.release();
+        }
+    }
+
+    /**
+     * Capture The Pin And The Last Write Of This Thread, The Thread Attached Reads As This One Does
+     *
+     * @return the {@link Context} instance, null if neither pinned nor written
+     */
+    @Nullable
+    @Override
+    public Context capture() {
+        boolean pinned = pinDepth.get()[0] > 0;
+        long[] last = lastWrite.get().clone();
+        if (!pinned && last[1] == 0L) {
+            return null;
+        }
+
+        return () -> {
+            long[] current = lastWrite.get();
+            long[] previous = current.clone();
+            System.arraycopy(last, 0, current, 0, current.length);
+
+            Pin pin = pinned ? pinPrimary() : null;
+            return () -> {
+                if (pin != null) {
+                    pin.close();
+                }
+
+                System.arraycopy(previous, 0, current, 0, current.length);
+            };
+        };
+    }
+
+    /**
+     * Pin Reads Of This Thread To The Primary, Until Closed
+     *
+     * @return the {@link Pin} instance, close in finally on this thread, closing twice is a no-op
+     */
+    @NotNull
+    public Pin pinPrimary() {
+        int[] depth = pinDepth.get();
+        depth[0]++;
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                depth[0] = Math.max(0, depth[0] - 1);
+            }
+        };
+    }
+
+    /**
+     * Mark A Write, Reads Of This Thread Go To The Primary For The Window
+     */
+    public void markWrite() {
+        long[] last = lastWrite.get();
+        last[0] = System.nanoTime();
+        last[1] = 1L;
+    }
+
+    /**
+     * Reads Of This Thread Go To The Primary ?
+     *
+     * @return pinned, in a transaction or within the read-your-writes window ? true : false
+     */
+    public boolean isPrimaryPinned() {
+        if (pinDepth.get()[0] > 0 || isTransactionActive()) {
+            return true;
+        }
+
+        long[] last = lastWrite.get();
+        return last[1] != 0L && System.nanoTime() - last[0] < readYourWritesNanos;
+    }
+
+    /**
+     * In A Spring Transaction ? Its Reads Must See Its Own Rows, On Its Connection To The Primary
+     *
+     * @return synchronization or an actual transaction active ? true : false
+     */
+    protected boolean isTransactionActive() {
+        return TransactionSynchronizationManager.isSynchronizationActive() ||
+                TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Choose The Replica With The Fewest Outstanding Requests, Ties From A Random Start
+     *
+     * @return the {@link Replica} instance, null if no replica
+     */
+    @Nullable
+    protected Replica choose() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        if (size == 1) {
+            return replicas.getFirst();
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(size);
+        Replica result = null;
+        int least = Integer.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            int outstanding = replica.getOutstanding();
+            if (outstanding < least) {
+                least = outstanding;
+                result = replica;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Pin, Scope Of Reads To The Primary
+     */
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    @NotNull
+    public Executor getPrimary() {
+        return primary;
+    }
+
+    @NotNull
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getPrimaryReadCount() {
+        return primaryReadCount.sum();
+    }
+
+    @NotNull
+    public Duration getReadYourWritesWindow() {
+        return Duration.ofNanos(readYourWritesNanos);
+    }
+
+    public void setReadYourWritesWindow(@NotNull Duration readYourWritesWindow) {
+        Preconditions.requireNonNull(readYourWritesWindow, "readYourWritesWindow must not be null");
+        if (readYourWritesWindow.isNegative()) {
+            throw new IllegalArgumentException("readYourWritesWindow must not be negative, readYourWritesWindow: " + readYourWritesWindow);
+        }
+
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replica, One Read-Only {@link Executor} And Its Outstanding Requests
+ *
+ * @author changebooks@qq.com
+ */
+public final class Replica {
+    /**
+     * Name, For Logs And Metrics
+     */
+    private final String name;
+
+    /**
+     * the {@link Executor} instance
+     */
+    private final Executor executor;
+
+    /**
+     * Requests In Flight
+     */
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * Requests Served
+     */
+    private final LongAdder requestCount = new LongAdder();
+
+    public Replica(@NotNull String name, @NotNull Executor executor) {
+        Preconditions.requireNonEmpty(name, "name must not be empty");
+        Preconditions.requireNonNull(executor, "executor must not be null");
+
+        this.name = name;
+        this.executor = executor;
+    }
+
+    /**
+     * Acquire, Before The Call
+     */
+    void acquire() {
+        outstanding.incrementAndGet();
+        requestCount.increment();
+    }
+
+    /**
+     * Release, After The Call
+     */
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Replica{name=" + name + ", outstanding=" + outstanding.get() + "}";
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Shard Range, Sharding Table Nums From .. To, Both Inclusive, On One {@link Executor}
+ * <p>
+ * With a readWrite group, writes go to its primary and reads to its replicas, of this shard only.
+ *
+ * @param from      Sharding Table Num, Inclusive
+ * @param to        Sharding Table Num, Inclusive
+ * @param executor  the {@link Executor} instance, of the database the tables live on, the primary if readWrite
+ * @param readWrite the {@link ReadWriteInterceptor} instance, of this shard, null if no replicas
+ * @author changebooks@qq.com
+ */
+public record ShardRange(int from, int to, @NotNull Executor executor, @Nullable ReadWriteInterceptor readWrite) {
+
+    public ShardRange {
+        Preconditions.requireNonNull(executor, "executor must not be null");
+        if (from > to) {
+            throw new IllegalArgumentException("from must not be greater than to, from: " + from + ", to: " + to);
+        }
+
+        if (readWrite != null && readWrite.getPrimary() != executor) {
+            throw new IllegalArgumentException("executor must be the primary of readWrite, from: " + from + ", to: " + to);
+        }
+    }
+
+    public ShardRange(int from, int to, @NotNull Executor executor) {
+        this(from, to, executor, null);
+    }
+
+    public ShardRange(int from, int to, @NotNull ReadWriteInterceptor readWrite) {
+        this(from, to, readWrite != null ? readWrite.getPrimary() : null, readWrite);
+    }
+
+    /**
+     * Contains ?
+     *
+     * @param tableNum Sharding Table Num
+     * @return from <= tableNum <= to ? true : false
+     */
+    public boolean contains(int tableNum) {
+        return tableNum >= from && tableNum <= to;
+    }
+
+}
@@ -0,0 +1,246 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.executor.Executor;
+import io.github.winter.database.template.RoutingInterceptor;
+import io.github.winter.database.template.TemplateInterceptor;
+import io.github.winter.database.template.TemplateInvocation;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 分库
+ * <p>
+ * Maps sharding table num ranges to the {@link Executor} of the database they live on.
+ * As a {@link TemplateInterceptor}, every call with a table num runs on its shard,
+ * calls without a table num run on the executor the {@link io.github.winter.database.template.Template} was built with,
+ * or through the unsharded {@link ReadWriteInterceptor} if set.
+ * Read/write splitting goes into the ranges, one {@link ReadWriteInterceptor} per shard:
+ * a {@link ReadWriteInterceptor} added next to the topology would override the shard, and is rejected.
+ *
+ * @author changebooks@qq.com
+ */
+public class ShardTopology implements RoutingInterceptor {
+    /**
+     * [ the {@link ShardRange} instance ], Sorted By From, Not Overlapping
+     */
+    private final List<ShardRange> ranges;
+
+    /**
+     * [ From ], Binary Searched
+     */
+    private final int[] froms;
+
+    /**
+     * the {@link ReadWriteInterceptor} instance, Of The Calls Without A Table Num, null ? the Template's executor
+     */
+    private final ReadWriteInterceptor unsharded;
+
+    /**
+     * [ the {@link ReadWriteInterceptor} instance ], Of The Ranges And Unsharded, Distinct
+     */
+    private final List<ReadWriteInterceptor> groups;
+
+    public ShardTopology(@NotNull List<ShardRange> ranges) {
+        this(ranges, null);
+    }
+
+    public ShardTopology(@NotNull List<ShardRange> ranges, @Nullable ReadWriteInterceptor unsharded) {
+        Preconditions.requireNonNull(ranges, "ranges must not be null");
+
+        for (ShardRange range : ranges) {
+            Preconditions.requireNonNull(range, "range must not be null");
+        }
+
+        List<ShardRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingInt(ShardRange::from));
+
+        int size = sorted.size();
+        int[] froms = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            ShardRange range = sorted.get(i);
+            if (i > 0 && range.from() <= sorted.get(i - 1).to()) {
+                throw new IllegalArgumentException("ranges must not overlap, range: " + sorted.get(i - 1) + ", range: " + range);
+            }
+
+            froms[i] = range.from();
+        }
+
+        Set<ReadWriteInterceptor> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ShardRange range : sorted) {
+            if (range.readWrite() != null) {
+                groups.add(range.readWrite());
+            }
+        }
+
+        if (unsharded != null) {
+            groups.add(unsharded);
+        }
+
+        this.ranges = List.copyOf(sorted);
+        this.froms = froms;
+        this.unsharded = unsharded;
+        this.groups = List.copyOf(groups);
+    }
+
+    @Override
+    public <T> T intercept(TemplateInvocation<T> invocation) {
+        Integer tableNum = invocation.getTableNum();
+
+        ReadWriteInterceptor readWrite;
+        if (tableNum != null) {
+            ShardRange range = require(tableNum);
+            readWrite = range.readWrite();
+            if (readWrite == null) {
+                invocation.setExecutor(range.executor());
+                return invocation.proceed();
+            }
+        } else {
+            readWrite = unsharded;
+            if (readWrite == null) {
+                return invocation.proceed();
+            }
+        }
+
+        return readWrite.intercept(invocation);
+    }
+
+    /**
+     * Capture The Pins And Last Writes Of Every Read/Write Group
+     *
+     * @return the {@link Context} instance, null if no group has state
+     */
+    @Nullable
+    @Override
+    public Context capture() {
+        List<Context> contexts = null;
+        for (ReadWriteInterceptor group : groups) {
+            Context context = group.capture();
+            if (context != null) {
+                if (contexts == null) {
+                    contexts = new ArrayList<>(groups.size());
+                }
+
+                contexts.add(context);
+            }
+        }
+
+        if (contexts == null) {
+            return null;
+        }
+
+        List<Context> captured = contexts;
+        return () -> {
+            List<Scope> scopes = new ArrayList<>(captured.size());
+            for (Context context : captured) {
+                scopes.add(context.attach());
+            }
+
+            return () -> {
+                for (int i = scopes.size() - 1; i >= 0; i--) {
+                    scopes.get(i).close();
+                }
+            };
+        };
+    }
+
+    /**
+     * Pin Reads Of This Thread To The Primary, Of Every Read/Write Group, Until Closed
+     *
+     * @return the {@link ReadWriteInterceptor.Pin} instance, close in finally on this thread, closing twice is a no-op
+     */
+    @NotNull
+    public ReadWriteInterceptor.Pin pinPrimary() {
+        List<ReadWriteInterceptor.Pin> pins = new ArrayList<>(groups.size());
+        for (ReadWriteInterceptor group : groups) {
+            pins.add(group.pinPrimary());
+        }
+
+        return () -> {
+            for (int i = pins.size() - 1; i >= 0; i--) {
+                pins.get(i).close();
+            }
+        };
+    }
+
+    /**
+     * Route
+     *
+     * @param tableNum Sharding Table Num
+     * @return the {@link Executor} instance, the primary if the shard has a read/write group
+     * @throws IllegalArgumentException if no range contains the table num
+     */
+    @NotNull
+    public Executor route(int tableNum) {
+        return require(tableNum).executor();
+    }
+
+    /**
+     * Find, Or Throw
+     *
+     * @param tableNum Sharding Table Num
+     * @return the {@link ShardRange} instance
+     * @throws IllegalArgumentException if no range contains the table num
+     */
+    @NotNull
+    private ShardRange require(int tableNum) {
+        ShardRange range = find(tableNum);
+        if (range == null) {
+            throw new IllegalArgumentException("no shard for tableNum: " + tableNum);
+        }
+
+        return range;
+    }
+
+    /**
+     * Find
+     *
+     * @param tableNum Sharding Table Num
+     * @return the {@link ShardRange} instance, null if no range contains the table num
+     */
+    @Nullable
+    public ShardRange find(int tableNum) {
+        int low = 0;
+        int high = froms.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (froms[mid] <= tableNum) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        if (high < 0) {
+            return null;
+        }
+
+        ShardRange range = ranges.get(high);
+        return range.contains(tableNum) ? range : null;
+    }
+
+    @NotNull
+    public List<ShardRange> getRanges() {
+        return ranges;
+    }
+
+    @Nullable
+    public ReadWriteInterceptor getUnsharded() {
+        return unsharded;
+    }
+
+    @NotNull
+    public List<ReadWriteInterceptor> getGroups() {
+        return groups;
+    }
+
+}
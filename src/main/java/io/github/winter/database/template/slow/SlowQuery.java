@@ -0,0 +1,137 @@
+package io.github.winter.database.template.slow;
+
+import io.github.winter.database.template.OperationType;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Slow Query, Captured Over The Threshold
+ *
+ * @author changebooks@qq.com
+ */
+public final class SlowQuery {
+    /**
+     * the {@link OperationType} instance
+     */
+    private final OperationType type;
+
+    /**
+     * Table Name, Without Sharding Table Num
+     */
+    private final String tableName;
+
+    /**
+     * Sharding Table Num
+     */
+    private final Integer tableNum;
+
+    /**
+     * SQL
+     */
+    private final String sql;
+
+    /**
+     * [ Parameter Name ]
+     */
+    private final List<String> parameterNames;
+
+    /**
+     * name = value, name = value, maybe truncated
+     */
+    private final String parameters;
+
+    /**
+     * Rows Read Or Affected
+     */
+    private final long rowCount;
+
+    /**
+     * Elapsed Nanos
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Captured At, Epoch Millis
+     */
+    private final long capturedAt;
+
+    /**
+     * Throwable, null if succeeded
+     */
+    private final String error;
+
+    public SlowQuery(@NotNull OperationType type, @NotNull String tableName, @Nullable Integer tableNum,
+                     String sql, List<String> parameterNames, String parameters,
+                     long rowCount, long elapsedNanos, long capturedAt, @Nullable String error) {
+        this.type = type;
+        this.tableName = tableName;
+        this.tableNum = tableNum;
+        this.sql = sql;
+        this.parameterNames = parameterNames != null ? List.copyOf(parameterNames) : List.of();
+        this.parameters = parameters;
+        this.rowCount = rowCount;
+        this.elapsedNanos = elapsedNanos;
+        this.capturedAt = capturedAt;
+        this.error = error;
+    }
+
+    @NotNull
+    public OperationType getType() {
+        return type;
+    }
+
+    @NotNull
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Nullable
+    public Integer getTableNum() {
+        return tableNum;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    @NotNull
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    @Nullable
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{type=" + type +
+                ", tableName=" + tableName +
+                ", tableNum=" + tableNum +
+                ", elapsedMillis=" + elapsedNanos / 1_000_000 +
+                ", rowCount=" + rowCount +
+                ", sql=" + sql +
+                ", parameters=" + parameters +
+                (error != null ? ", error=" + error : "") + "}";
+    }
+
+}
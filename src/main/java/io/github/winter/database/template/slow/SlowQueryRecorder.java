@@ -0,0 +1,271 @@
+package io.github.winter.database.template.slow;
+
+import io.github.winter.boot.sql.Preconditions;
+import io.github.winter.database.template.TemplateListener;
+import io.github.winter.database.template.TemplateOperation;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Slow Query Recorder
+ * <p>
+ * Statements over the threshold of their table are kept in a bounded ring, the oldest overwritten first.
+ * At most maxPerSecond are captured, so an incident cannot flood the ring or the query threads.
+ * Register on {@link io.github.winter.database.template.Template#addListener(TemplateListener)}.
+ *
+ * @author changebooks@qq.com
+ */
+public class SlowQueryRecorder implements TemplateListener {
+    /**
+     * Default Threshold
+     */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(500);
+
+    /**
+     * Default Capacity
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Default Captured per Second
+     */
+    public static final int DEFAULT_MAX_PER_SECOND = 20;
+
+    /**
+     * Default Max Length of Rendered Parameters
+     */
+    public static final int DEFAULT_MAX_PARAMETERS_LENGTH = 4096;
+
+    /**
+     * Nanos per Second
+     */
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * [ Captured ], index = sequence % capacity
+     */
+    private final AtomicReferenceArray<SlowQuery> ring;
+
+    /**
+     * Next Sequence
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * [ Table Name : Threshold Nanos ]
+     */
+    private final Map<String, Long> tableThresholds = new ConcurrentHashMap<>();
+
+    /**
+     * Dropped By Rate Limit
+     */
+    private final LongAdder suppressedCount = new LongAdder();
+
+    /**
+     * Threshold Nanos, Tables Without Their Own
+     */
+    private volatile long thresholdNanos = DEFAULT_THRESHOLD.toNanos();
+
+    /**
+     * Captured per Second
+     */
+    private volatile int maxPerSecond = DEFAULT_MAX_PER_SECOND;
+
+    /**
+     * Max Length of Rendered Parameters
+     */
+    private volatile int maxParametersLength = DEFAULT_MAX_PARAMETERS_LENGTH;
+
+    /**
+     * Tokens Left, Guarded By this
+     */
+    private double tokens = DEFAULT_MAX_PER_SECOND;
+
+    /**
+     * Last Refill, Guarded By this
+     */
+    private long refilledNanos = System.nanoTime();
+
+    public SlowQueryRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SlowQueryRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0, capacity: " + capacity);
+        }
+
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void onOperation(TemplateOperation operation) {
+        long elapsedNanos = operation.getElapsedNanos();
+        if (elapsedNanos < getThresholdNanos(operation.getTableName())) {
+            return;
+        }
+
+        if (!tryAcquire()) {
+            suppressedCount.increment();
+            return;
+        }
+
+        SlowQuery slowQuery = capture(operation);
+        long seq = sequence.getAndIncrement();
+        ring.set((int) (seq % ring.length()), slowQuery);
+    }
+
+    /**
+     * Captured, Newest First
+     *
+     * @return [ the {@link SlowQuery} instance ]
+     */
+    @NotNull
+    public List<SlowQuery> getAll() {
+        int capacity = ring.length();
+        long last = sequence.get();
+        long first = Math.max(0, last - capacity);
+
+        List<SlowQuery> result = new ArrayList<>((int) (last - first));
+        for (long seq = last - 1; seq >= first; seq--) {
+            SlowQuery slowQuery = ring.get((int) (seq % capacity));
+            if (slowQuery != null) {
+                result.add(slowQuery);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Clear Captured
+     */
+    public void clear() {
+        for (int i = 0, capacity = ring.length(); i < capacity; i++) {
+            ring.set(i, null);
+        }
+    }
+
+    /**
+     * Threshold Nanos of The Table
+     *
+     * @param tableName Table Name
+     * @return Table Threshold, if null ? Default Threshold
+     */
+    public long getThresholdNanos(String tableName) {
+        Long threshold = tableName != null ? tableThresholds.get(tableName) : null;
+        return threshold != null ? threshold : thresholdNanos;
+    }
+
+    /**
+     * Set Threshold of The Table
+     *
+     * @param tableName Table Name, Without Sharding Table Num
+     * @param threshold Threshold, null ? Default Threshold
+     */
+    public void setTableThreshold(@NotNull String tableName, @Nullable Duration threshold) {
+        Preconditions.requireNonEmpty(tableName, "tableName must not be empty");
+
+        if (threshold == null) {
+            tableThresholds.remove(tableName);
+        } else {
+            tableThresholds.put(tableName, threshold.toNanos());
+        }
+    }
+
+    /**
+     * Capture
+     *
+     * @param operation the {@link TemplateOperation} instance
+     * @return the {@link SlowQuery} instance
+     */
+    @NotNull
+    protected SlowQuery capture(@NotNull TemplateOperation operation) {
+        String parameters = operation.renderParameters(getMaxParametersLength());
+
+        Throwable throwable = operation.getThrowable();
+        String error = throwable != null ? throwable.toString() : null;
+
+        return new SlowQuery(operation.getType(), operation.getTableName(), operation.getTableNum(),
+                operation.getSql(), operation.getParameterNames(), parameters,
+                operation.getRowCount(), operation.getElapsedNanos(), System.currentTimeMillis(), error);
+    }
+
+    /**
+     * Token Bucket, maxPerSecond Tokens Refilled Every Second
+     *
+     * @return Acquired ? true : false
+     */
+    protected synchronized boolean tryAcquire() {
+        int rate = getMaxPerSecond();
+        long now = System.nanoTime();
+
+        tokens = Math.min(rate, tokens + (double) (now - refilledNanos) * rate / NANOS_PER_SECOND);
+        refilledNanos = now;
+
+        if (tokens < 1.0) {
+            return false;
+        }
+
+        tokens -= 1.0;
+        return true;
+    }
+
+    public int getCapacity() {
+        return ring.length();
+    }
+
+    public long getCapturedCount() {
+        return sequence.get();
+    }
+
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    @NotNull
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    public void setThreshold(@NotNull Duration threshold) {
+        Preconditions.requireNonNull(threshold, "threshold must not be null");
+
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    public int getMaxPerSecond() {
+        return maxPerSecond;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        if (maxPerSecond <= 0) {
+            throw new IllegalArgumentException("maxPerSecond must be greater than 0, maxPerSecond: " + maxPerSecond);
+        }
+
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public int getMaxParametersLength() {
+        return maxParametersLength;
+    }
+
+    public void setMaxParametersLength(int maxParametersLength) {
+        if (maxParametersLength <= 0) {
+            throw new IllegalArgumentException("maxParametersLength must be greater than 0, maxParametersLength: " + maxParametersLength);
+        }
+
+        this.maxParametersLength = maxParametersLength;
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.winter.database.template.value;
+
+import io.github.winter.boot.tuple.Value;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Key Values
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyValues {
+
+    private KeyValues() {
+    }
+
+    /**
+     * Comparable Key, the key read back may be typed differently from the key passed in
+     *
+     * @param keyValue Key Value
+     * @return Key String
+     */
+    @Nullable
+    public static String keyOf(@Nullable Value keyValue) {
+        return keyValue != null ? keyValue.getString() : null;
+    }
+
+    /**
+     * Collated Key, compared as the default collation of MySQL does: case-insensitive, trailing spaces ignored
+     *
+     * @param keyValue Key Value
+     * @return Key String, lower case, trailing spaces removed
+     */
+    @Nullable
+    public static String collatedKeyOf(@Nullable Value keyValue) {
+        String key = keyOf(keyValue);
+        if (key == null) {
+            return null;
+        }
+
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == ' ') {
+            end--;
+        }
+
+        return key.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Collect Collated Keys
+     *
+     * @param list    [ [ Column Name : Column Value ] ]
+     * @param keyName Key Name
+     * @return [ Key String ], see {@link #collatedKeyOf(Value)}
+     */
+    @NotNull
+    public static Set<String> keysOf(List<Map<String, Value>> list, @NotNull String keyName) {
+        if (list == null) {
+            return new HashSet<>();
+        }
+
+        Set<String> result = HashSet.newHashSet(list.size());
+
+        for (Map<String, Value> values : list) {
+            if (values == null) {
+                continue;
+            }
+
+            String key = collatedKeyOf(values.get(keyName));
+            if (key != null) {
+                result.add(key);
+            }
+        }
+
+        return result;
+    }
+
+}
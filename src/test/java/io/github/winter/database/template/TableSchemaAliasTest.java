@@ -0,0 +1,179 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.sql.SqlParser;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import io.github.winter.database.template.parser.Projection;
+import io.github.winter.database.template.parser.ProjectionParser;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Canonical Sharing Of The {@link TableSchemaRegistry}, The {@link TableSchema} Overloads Of Shard N Hit Shard N
+ *
+ * @author changebooks@qq.com
+ */
+class TableSchemaAliasTest {
+    /**
+     * Shard Family, Of This Test Only
+     */
+    private static final String FAMILY = "alias_orders";
+
+    /**
+     * Shards
+     */
+    private static final int SHARD_COUNT = 4;
+
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 6;
+
+    @Test
+    void overloadsHitTheShard() {
+        TableSchemaRegistry.setCanonicalSharing(true);
+        try {
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                String tableName = FAMILY + "_" + i;
+                TableSchemaRegistry.put(tableName, new SyntheticTableSchema(tableName, COLUMN_COUNT));
+            }
+
+            TableSchema first = TableSchemaRegistry.get(FAMILY + "_0");
+            List<String> executed = new ArrayList<>();
+            List<String> parsed = new ArrayList<>();
+
+            FakeExecutor fakeExecutor = new FakeExecutor(0, 0, first.getColumnNames(), 1);
+            Template template = new Template(fakeExecutor.toExecutor(), recordingSqlParser(parsed));
+            template.addInterceptor(new TemplateInterceptor() {
+                @Override
+                public <T> T intercept(TemplateInvocation<T> invocation) {
+                    executed.add(invocation.getTableName());
+                    return invocation.proceed();
+                }
+            });
+
+            Map<String, Value> row = Fixtures.values(first.getColumnsOnInsert());
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                String tableName = FAMILY + "_" + i;
+                TableSchema tableSchema = TableSchemaRegistry.get(tableName);
+                assertEquals(tableName, tableSchema.getTableName(), "tableName");
+                assertSame(first.getColumnNames(), tableSchema.getColumnNames(), "columns must be shared");
+
+                executed.clear();
+                parsed.clear();
+
+                template.selectList(tableSchema, null, null, null);
+                template.selectOne(tableSchema, null, null);
+                template.insert(tableSchema, row);
+                template.batchInsert(tableSchema, List.of(row));
+                template.parseSelect(tableSchema, null, null, null);
+                template.parseInsert(tableSchema, 1);
+
+                assertEquals(List.of(tableName, tableName, tableName, tableName), executed, "executed");
+                assertTrue(!parsed.isEmpty() && parsed.stream().allMatch(tableName::equals), () -> "parsed: " + parsed);
+            }
+
+            assertEquals(1, TableSchemaRegistry.getCanonicalCount(), "canonicalCount");
+        } finally {
+            TableSchemaRegistry.setCanonicalSharing(false);
+        }
+
+        assertEquals(0, TableSchemaRegistry.getCanonicalCount(), "canonicalCount");
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            String tableName = FAMILY + "_" + i;
+            TableSchema tableSchema = TableSchemaRegistry.get(tableName);
+            assertEquals(tableName, tableSchema.getTableName(), "tableName");
+
+            if (tableSchema instanceof TableSchemaAlias alias) {
+                assertNull(alias.getCanonical(), "alias must be detached");
+            }
+        }
+
+        TableSchemaRegistry.removeAll(TableSchemaRegistry.getTableNames().stream().filter(x -> x.startsWith(FAMILY)).toList());
+    }
+
+    @Test
+    void bulkPublishPrunesCanonicals() {
+        TableSchemaRegistry.setCanonicalSharing(true);
+        try {
+            String tableName = FAMILY + "_bulk_0";
+            TableSchemaRegistry.putAll(Map.of(tableName, new SyntheticTableSchema(tableName, COLUMN_COUNT)));
+            assertEquals(1, TableSchemaRegistry.getCanonicalCount(), "canonicalCount");
+
+            TableSchemaRegistry.putAll(Map.of(tableName, new SyntheticTableSchema(tableName, COLUMN_COUNT + 1)));
+            assertEquals(1, TableSchemaRegistry.getCanonicalCount(), "replaced shape must be pruned");
+        } finally {
+            TableSchemaRegistry.setCanonicalSharing(false);
+            TableSchemaRegistry.remove(FAMILY + "_bulk_0");
+        }
+    }
+
+    @Test
+    void projectionIsSharedAcrossShards() {
+        TableSchemaRegistry.setCanonicalSharing(true);
+        try {
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                String tableName = FAMILY + "_projection_" + i;
+                TableSchemaRegistry.put(tableName, new SyntheticTableSchema(tableName, COLUMN_COUNT));
+            }
+
+            TableSchema first = TableSchemaRegistry.get(FAMILY + "_projection_0");
+            List<String> columns = first.getColumnNames().subList(0, 2);
+            Projection projection = ProjectionParser.parse(first, columns);
+
+            for (int i = 1; i < SHARD_COUNT; i++) {
+                TableSchema tableSchema = TableSchemaRegistry.get(FAMILY + "_projection_" + i);
+                assertSame(projection, ProjectionParser.parse(tableSchema, columns), "projection must be shared");
+            }
+        } finally {
+            TableSchemaRegistry.setCanonicalSharing(false);
+            TableSchemaRegistry.removeAll(TableSchemaRegistry.getTableNames().stream().filter(x -> x.startsWith(FAMILY)).toList());
+        }
+    }
+
+    @Test
+    void putAfterSharingOffIsNotAliased() {
+        TableSchemaRegistry.setCanonicalSharing(false);
+
+        String tableName = FAMILY + "_off_0";
+        TableSchema tableSchema = new SyntheticTableSchema(tableName, COLUMN_COUNT);
+        TableSchemaRegistry.put(tableName, tableSchema);
+        try {
+            assertSame(tableSchema, TableSchemaRegistry.get(tableName), "tableSchema");
+        } finally {
+            TableSchemaRegistry.remove(tableName);
+        }
+    }
+
+    /**
+     * SQL Parser, Records The Table Name Of Every Parse
+     *
+     * @param parsed [ Table Name ], Recorded Into
+     * @return the {@link SqlParser} instance
+     */
+    private static SqlParser recordingSqlParser(List<String> parsed) {
+        SqlParser delegate = Fixtures.sqlParser();
+        return (SqlParser) Proxy.newProxyInstance(SqlParser.class.getClassLoader(), new Class<?>[]{SqlParser.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() != Object.class && method.getName().startsWith("parse")
+                            && args != null && args.length > 0 && args[0] instanceof String tableName) {
+                        parsed.add(tableName);
+                    }
+
+                    return method.invoke(delegate, args);
+                });
+    }
+
+}
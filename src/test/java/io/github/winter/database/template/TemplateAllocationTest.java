@@ -0,0 +1,181 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bytes Allocated Per Call Of The {@link Template}, Against A {@link FakeExecutor} And A Fixed SQL Parser
+ * <p>
+ * A budget failing means the hot path allocates more, e.g. a new HashMap or stream, the message has the measured bytes.
+ * Budgets were measured on HotSpot 21 with TLABs and compressed oops, on any other JVM the test is skipped.
+ *
+ * @author changebooks@qq.com
+ */
+class TemplateAllocationTest {
+    /**
+     * Table Name
+     */
+    private static final String TABLE_NAME = "allocation_table";
+
+    /**
+     * Columns, id And 19 Others
+     */
+    private static final int COLUMN_COUNT = 20;
+
+    /**
+     * Batch Size Of batchInsert
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * Calls Before Measuring, Until JIT Settles
+     */
+    private static final int WARMUP = 20_000;
+
+    /**
+     * Calls Measured
+     */
+    private static final int ITERATIONS = 10_000;
+
+    /**
+     * Java Version The Budgets Were Measured On
+     */
+    private static final int MEASURED_FEATURE = 21;
+
+    /**
+     * Budgets, Bytes Per Call, About A Quarter Above The Measured
+     */
+    private static final long SELECT_ONE_BUDGET = 384;
+
+    private static final long INSERT_BUDGET = 1_280;
+
+    private static final long BATCH_INSERT_BUDGET = 960_000;
+
+    private static final long UPDATE_BUDGET = 2_560;
+
+    private static final long DELETE_BUDGET = 320;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private static Template template;
+
+    private static Value keyValue;
+
+    private static Map<String, Value> row;
+
+    private static List<Map<String, Value>> batch;
+
+    private static Map<String, Value> setValues;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(Runtime.version().feature() == MEASURED_FEATURE, "budgets measured on Java " + MEASURED_FEATURE);
+
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        assumeTrue(hotSpot != null, "budgets measured on HotSpot");
+        assumeTrue(isEnabled(hotSpot, "UseTLAB"), "budgets measured with TLABs");
+        assumeTrue(isEnabled(hotSpot, "UseCompressedOops"), "budgets measured with compressed oops");
+
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "thread allocated bytes not supported");
+
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                "thread allocated bytes not enabled");
+
+        SyntheticTableSchema tableSchema = new SyntheticTableSchema(TABLE_NAME, COLUMN_COUNT);
+        TableSchemaRegistry.put(TABLE_NAME, tableSchema);
+
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+        template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        List<String> columns = tableSchema.getColumnsOnInsert();
+        keyValue = Fixtures.value();
+        row = Collections.unmodifiableMap(Fixtures.values(columns));
+        batch = Collections.nCopies(BATCH_SIZE, row);
+        setValues = Collections.unmodifiableMap(Fixtures.values(columns.subList(0, 3)));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        TableSchemaRegistry.remove(TABLE_NAME);
+    }
+
+    @Test
+    void selectOne() {
+        assertBudget("selectOne", SELECT_ONE_BUDGET, () -> template.selectOne(TABLE_NAME, keyValue, null, null));
+    }
+
+    @Test
+    void insert() {
+        assertBudget("insert", INSERT_BUDGET, () -> template.insert(TABLE_NAME, row, null));
+    }
+
+    @Test
+    void batchInsert() {
+        assertBudget("batchInsert", BATCH_INSERT_BUDGET, () -> template.batchInsert(TABLE_NAME, batch, null));
+    }
+
+    @Test
+    void update() {
+        assertBudget("update", UPDATE_BUDGET, () -> template.update(TABLE_NAME, keyValue, null, setValues, null, null));
+    }
+
+    @Test
+    void delete() {
+        assertBudget("delete", DELETE_BUDGET, () -> template.delete(TABLE_NAME, keyValue, null, null));
+    }
+
+    /**
+     * Assert Bytes Per Call Within Budget
+     *
+     * @param name   Operation Name
+     * @param budget Bytes Per Call
+     * @param call   the call
+     */
+    private static void assertBudget(String name, long budget, Runnable call) {
+        int warmup = Math.max(1, WARMUP / Math.max(1, (int) (budget >> 12)));
+        for (int i = 0; i < warmup; i++) {
+            call.run();
+        }
+
+        int iterations = Math.max(100, ITERATIONS / Math.max(1, (int) (budget >> 12)));
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            call.run();
+        }
+
+        long bytes = (threadMXBean.getCurrentThreadAllocatedBytes() - before) / iterations;
+        assertTrue(bytes <= budget, () -> name + " allocated " + bytes + " bytes/op, budget: " + budget);
+    }
+
+    /**
+     * VM Option Enabled ?
+     *
+     * @param hotSpot the {@link HotSpotDiagnosticMXBean} instance
+     * @param name    VM Option Name
+     * @return enabled ? true : false, false if unknown
+     */
+    private static boolean isEnabled(HotSpotDiagnosticMXBean hotSpot, String name) {
+        try {
+            return Boolean.parseBoolean(hotSpot.getVMOption(name).getValue());
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+}
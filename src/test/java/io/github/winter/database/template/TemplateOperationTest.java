@@ -0,0 +1,153 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.filter.Page;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * One {@link TemplateOperation} per Public Call, Listing The Statements It Ran
+ *
+ * @author changebooks@qq.com
+ */
+class TemplateOperationTest {
+    /**
+     * Table Name
+     */
+    private static final String TABLE_NAME = "template_operation_table";
+
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * Rows Of A Page, A Full Page Needs The Count
+     */
+    private static final int ROW_COUNT = 20;
+
+    private static SyntheticTableSchema tableSchema;
+
+    @BeforeAll
+    static void setUp() {
+        tableSchema = new SyntheticTableSchema(TABLE_NAME, COLUMN_COUNT);
+        TableSchemaRegistry.put(TABLE_NAME, tableSchema);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        TableSchemaRegistry.remove(TABLE_NAME);
+    }
+
+    @Test
+    void checkExistAllIsOneOperation() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+        template.setInChunkSize(2);
+
+        List<TemplateOperation> operations = new CopyOnWriteArrayList<>();
+        template.addListener(operations::add);
+
+        List<Value> keyValues = Collections.nCopies(5, Fixtures.value());
+        template.checkExistAll(TABLE_NAME, keyValues, null, null);
+
+        assertEquals(3L, fakeExecutor.getCallCount(), "one statement per chunk");
+        assertEquals(1, operations.size(), "one operation per call");
+        assertEquals(OperationType.CHECK_EXIST_ALL, operations.getFirst().getType(), "type");
+        assertEquals(3, operations.getFirst().getStatements().size(), "statements");
+    }
+
+    @Test
+    void selectPageIsOneOperation() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), ROW_COUNT);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        List<TemplateOperation> operations = new CopyOnWriteArrayList<>();
+        template.addListener(operations::add);
+
+        Page page = new Page();
+        page.setOffset(0);
+        page.setLimit(ROW_COUNT);
+        template.selectPage(TABLE_NAME, null, null, page, null);
+
+        assertEquals(1, operations.size(), "one operation per call");
+
+        TemplateOperation operation = operations.getFirst();
+        assertEquals(OperationType.SELECT_PAGE, operation.getType(), "type");
+        assertEquals(2, operation.getStatements().size(), "list and count");
+        assertEquals(ROW_COUNT, operation.getRowCount(), "rowCount of the page");
+    }
+
+    @Test
+    void renderParametersIsBounded() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        List<TemplateOperation> operations = new CopyOnWriteArrayList<>();
+        template.addListener(operations::add);
+
+        Map<String, Value> row = Fixtures.values(tableSchema.getColumnsOnInsert());
+        template.batchInsert(TABLE_NAME, Collections.nCopies(1000, row), null);
+
+        TemplateOperation operation = operations.getFirst();
+        String rendered = operation.renderParameters();
+        String bounded = operation.renderParameters(100);
+
+        assertEquals(103, bounded.length(), "maxLength and the truncation mark");
+        assertTrue(bounded.endsWith("..."), "truncation mark");
+        assertEquals(rendered.substring(0, 100), bounded.substring(0, 100), "prefix of the whole rendering");
+        assertEquals(rendered, operation.renderParameters(rendered.length()), "not truncated at its own length");
+    }
+
+    @Test
+    void countSeesTableSchema() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        List<TableSchema> tableSchemas = new CopyOnWriteArrayList<>();
+        template.addInterceptor(new TemplateInterceptor() {
+            @Override
+            public <T> T intercept(TemplateInvocation<T> invocation) {
+                tableSchemas.add(invocation.getTableSchema());
+                return invocation.proceed();
+            }
+        });
+
+        template.selectCount(TABLE_NAME, null, null);
+        template.checkExist(TABLE_NAME, null, null);
+
+        assertEquals(2, tableSchemas.size(), "statements");
+        assertSame(tableSchema, tableSchemas.get(0), "schema of the registry, selectCount");
+        assertSame(tableSchema, tableSchemas.get(1), "schema of the registry, checkExist");
+    }
+
+    @Test
+    void singleStatementIsOneOperation() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), ROW_COUNT);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        List<TemplateOperation> operations = new CopyOnWriteArrayList<>();
+        template.addListener(operations::add);
+
+        template.selectList(TABLE_NAME, null, null, null, null);
+
+        assertEquals(1, operations.size(), "one operation per call");
+        assertEquals(1, operations.getFirst().getStatements().size(), "statements");
+        assertEquals(operations.getFirst().getStatements().getFirst().getSql(), operations.getFirst().getSql(), "sql");
+    }
+
+}
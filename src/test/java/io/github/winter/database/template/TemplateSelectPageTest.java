@@ -0,0 +1,121 @@
+package io.github.winter.database.template;
+
+import io.github.winter.boot.filter.Page;
+import io.github.winter.database.template.deadline.Deadline;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import io.github.winter.database.template.routing.ReadWriteInterceptor;
+import io.github.winter.database.template.routing.Replica;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link Template#selectPage}, The Count On Another Thread Sees The State Of The Caller
+ *
+ * @author changebooks@qq.com
+ */
+class TemplateSelectPageTest {
+    /**
+     * Table Name
+     */
+    private static final String TABLE_NAME = "select_page_table";
+
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * Rows Of A Page, A Full Page Needs The Count
+     */
+    private static final int ROW_COUNT = 20;
+
+    private static SyntheticTableSchema tableSchema;
+
+    @BeforeAll
+    static void setUp() {
+        tableSchema = new SyntheticTableSchema(TABLE_NAME, COLUMN_COUNT);
+        TableSchemaRegistry.put(TABLE_NAME, tableSchema);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        TableSchemaRegistry.remove(TABLE_NAME);
+    }
+
+    @Test
+    void countSeesDeadline() {
+        FakeExecutor fakeExecutor = new FakeExecutor(0, 0, tableSchema.getColumnNames(), ROW_COUNT);
+        Template template = new Template(fakeExecutor.toExecutor(), Fixtures.sqlParser());
+
+        AtomicReference<Thread> countThread = new AtomicReference<>();
+        AtomicReference<Deadline> countDeadline = new AtomicReference<>();
+        template.addInterceptor(new TemplateInterceptor() {
+            @Override
+            public <T> T intercept(TemplateInvocation<T> invocation) {
+                if (invocation.getType() == OperationType.SELECT_COUNT) {
+                    countThread.set(Thread.currentThread());
+                    countDeadline.set(Deadline.current());
+                }
+
+                return invocation.proceed();
+            }
+        });
+
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        Deadline.Scope scope = Deadline.within(deadline);
+        try {
+            template.selectPage(TABLE_NAME, null, null, page(), null);
+        } finally {
+            scope.close();
+        }
+
+        assertNotSame(Thread.currentThread(), countThread.get(), "count must run on another thread");
+        assertSame(deadline, countDeadline.get(), "count must run under the deadline of the caller");
+    }
+
+    @Test
+    void countReadsPrimaryWhenPinned() {
+        FakeExecutor primary = new FakeExecutor(0, 0, tableSchema.getColumnNames(), ROW_COUNT);
+        FakeExecutor replica = new FakeExecutor(0, 0, tableSchema.getColumnNames(), ROW_COUNT);
+
+        ReadWriteInterceptor readWriteInterceptor = new ReadWriteInterceptor(primary.toExecutor(),
+                List.of(new Replica("replica", replica.toExecutor())));
+
+        Template template = new Template(primary.toExecutor(), Fixtures.sqlParser());
+        template.addInterceptor(readWriteInterceptor);
+
+        ReadWriteInterceptor.Pin pin = readWriteInterceptor.pinPrimary();
+        try {
+            template.selectPage(TABLE_NAME, null, null, page(), null);
+        } finally {
+            pin.close();
+        }
+
+        assertEquals(2L, primary.getCallCount(), "list and count must read the primary");
+        assertEquals(0L, replica.getCallCount(), "no read must reach the replica");
+    }
+
+    /**
+     * Page, A Full Page
+     *
+     * @return the {@link Page} instance
+     */
+    private static Page page() {
+        Page page = new Page();
+        page.setOffset(0);
+        page.setLimit(ROW_COUNT);
+        return page;
+    }
+
+}
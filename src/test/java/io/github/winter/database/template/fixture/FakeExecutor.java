@@ -0,0 +1,135 @@
+package io.github.winter.database.template.fixture;
+
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.executor.Executor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fake Executor, Stands In For The Database
+ * <p>
+ * Every call parks for baseNanos plus an exponential tail of mean tailNanos, then answers with canned rows.
+ *
+ * @author changebooks@qq.com
+ */
+public final class FakeExecutor implements InvocationHandler {
+    /**
+     * Base Latency Nanos
+     */
+    private final long baseNanos;
+
+    /**
+     * Mean Of The Exponential Tail Nanos, 0 ? Fixed Latency
+     */
+    private final long tailNanos;
+
+    /**
+     * Rows Of selectList
+     */
+    private final List<Map<String, Value>> rows;
+
+    /**
+     * Calls
+     */
+    private final LongAdder callCount = new LongAdder();
+
+    public FakeExecutor(long baseNanos, long tailNanos, List<String> columnNames, int rowCount) {
+        if (baseNanos < 0 || tailNanos < 0) {
+            throw new IllegalArgumentException("latency must not be negative, baseNanos: " + baseNanos + ", tailNanos: " + tailNanos);
+        }
+
+        Map<String, Value> row = Collections.unmodifiableMap(Fixtures.values(columnNames));
+
+        this.baseNanos = baseNanos;
+        this.tailNanos = tailNanos;
+        this.rows = Collections.nCopies(rowCount, row);
+    }
+
+    /**
+     * Executor Backed By This
+     *
+     * @return the {@link Executor} instance
+     */
+    public Executor toExecutor() {
+        return (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(), new Class<?>[]{Executor.class}, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "FakeExecutor";
+            };
+        }
+
+        callCount.increment();
+        park();
+
+        SqlParameter sqlParameter = args != null && args.length > 0 && args[0] instanceof SqlParameter p ? p : null;
+        int batchSize = batchSize(sqlParameter);
+
+        return switch (method.getName()) {
+            case "selectList" -> new ArrayList<>(rows);
+            case "selectOne" -> rows.isEmpty() ? null : rows.getFirst();
+            case "getOne" -> Fixtures.value();
+            case "update" -> 1;
+            case "updateList" -> batchSize;
+            case "batchUpdate" -> {
+                int[] result = new int[batchSize];
+                Arrays.fill(result, 1);
+                yield result;
+            }
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    /**
+     * Park, Base Plus Exponential Tail
+     */
+    private void park() {
+        long nanos = baseNanos;
+        if (tailNanos > 0) {
+            nanos += (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * tailNanos);
+        }
+
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Batch Size
+     *
+     * @param sqlParameter the {@link SqlParameter} instance, Nullable
+     * @return Rows Of The Batch, 1 If Not A Batch
+     */
+    private static int batchSize(SqlParameter sqlParameter) {
+        if (sqlParameter == null) {
+            return 1;
+        }
+
+        List<Map<String, Value>> list = sqlParameter.getParametersList();
+        return list != null ? list.size() : 1;
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.github.winter.database.template.fixture;
+
+import io.github.winter.boot.sql.SqlParameter;
+import io.github.winter.boot.sql.SqlParser;
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.executor.Executor;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test And Benchmark Fixtures
+ *
+ * @author changebooks@qq.com
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Value, Opaque, The Benchmarked Paths Only Move Values Around
+     *
+     * @return the {@link Value} instance
+     */
+    public static Value value() {
+        return new Value();
+    }
+
+    /**
+     * Values, One Per Name
+     *
+     * @param names [ Name ]
+     * @return [ Name : Value ]
+     */
+    public static Map<String, Value> values(List<String> names) {
+        Map<String, Value> result = new HashMap<>();
+        for (String name : names) {
+            result.put(name, value());
+        }
+
+        return result;
+    }
+
+    /**
+     * SQL Parser, A Fixed Statement, Keeps The Parser Out Of Measurements Of The {@link io.github.winter.database.template.Template}
+     *
+     * @return the {@link SqlParser} instance
+     */
+    public static SqlParser sqlParser() {
+        return (SqlParser) Proxy.newProxyInstance(SqlParser.class.getClassLoader(), new Class<?>[]{SqlParser.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("equals") ? proxy == args[0] :
+                                method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "SqlParser";
+                    }
+
+                    if (method.getReturnType() == String.class) {
+                        return "SQL";
+                    }
+
+                    SqlParameter result = new SqlParameter();
+                    result.setSql("SQL");
+                    return result;
+                });
+    }
+
+    /**
+     * Executor, Parsing Never Reaches It
+     *
+     * @return the {@link Executor} instance, throws on every call
+     */
+    public static Executor executor() {
+        return (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(), new Class<?>[]{Executor.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("equals") ? proxy == args[0] :
+                                method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "Executor";
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+}
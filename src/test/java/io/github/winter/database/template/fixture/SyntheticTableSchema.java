@@ -0,0 +1,121 @@
+package io.github.winter.database.template.fixture;
+
+import io.github.winter.boot.tuple.Value;
+import io.github.winter.database.table.TableSchema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Synthetic Table Schema, id And columnCount - 1 Columns, Precomputed
+ *
+ * @author changebooks@qq.com
+ */
+public class SyntheticTableSchema extends TableSchema {
+
+    private final String tableName;
+
+    private final List<String> columnNames;
+
+    private final Map<String, Class<?>> valueTypes;
+
+    private final List<String> columnsOnInsert;
+
+    private final Set<String> columnsOnUpdate;
+
+    private final String joinedColumnsOnSelect;
+
+    private final String joinedColumnsOnInsert;
+
+    private final String joinedValuesOnInsert;
+
+    private final Map<String, Value> defaultValues;
+
+    public SyntheticTableSchema(String tableName, int columnCount) {
+        if (columnCount <= 0) {
+            throw new IllegalArgumentException("columnCount must be greater than 0, columnCount: " + columnCount);
+        }
+
+        List<String> names = new ArrayList<>(columnCount);
+        names.add("id");
+        for (int i = 1; i < columnCount; i++) {
+            names.add("column_" + i);
+        }
+
+        Map<String, Class<?>> types = new LinkedHashMap<>();
+        Map<String, Value> defaults = new HashMap<>();
+        for (String name : names) {
+            types.put(name, name.equals("id") ? Long.class : String.class);
+            defaults.put(name, Fixtures.value());
+        }
+
+        List<String> onInsert = names.subList(1, names.size());
+
+        this.tableName = tableName;
+        this.columnNames = Collections.unmodifiableList(names);
+        this.valueTypes = Collections.unmodifiableMap(types);
+        this.columnsOnInsert = List.copyOf(onInsert);
+        this.columnsOnUpdate = Collections.unmodifiableSet(new LinkedHashSet<>(onInsert));
+        this.joinedColumnsOnSelect = String.join(", ", names);
+        this.joinedColumnsOnInsert = String.join(", ", onInsert);
+        this.joinedValuesOnInsert = String.join(", ", Collections.nCopies(onInsert.size(), "?"));
+        this.defaultValues = Collections.unmodifiableMap(defaults);
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public String getIdName() {
+        return "id";
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public Map<String, Class<?>> getValueTypes() {
+        return valueTypes;
+    }
+
+    @Override
+    public List<String> getColumnsOnInsert() {
+        return columnsOnInsert;
+    }
+
+    @Override
+    public Set<String> getColumnsOnUpdate() {
+        return columnsOnUpdate;
+    }
+
+    @Override
+    public String getJoinedColumnsOnSelect() {
+        return joinedColumnsOnSelect;
+    }
+
+    @Override
+    public String getJoinedColumnsOnInsert() {
+        return joinedColumnsOnInsert;
+    }
+
+    @Override
+    public String getJoinedValuesOnInsert() {
+        return joinedValuesOnInsert;
+    }
+
+    @Override
+    public Map<String, Value> getDefaultValues() {
+        return defaultValues;
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.github.winter.database.template.refresh;
+
+import io.github.winter.database.table.TableSchema;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link FieldTableSchemaCodec}, Round Trip Through Bytes And Through A {@link TableSchemaSnapshot}, Corruption Refused
+ *
+ * @author changebooks@qq.com
+ */
+class FieldTableSchemaCodecTest {
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 8;
+
+    private final FieldTableSchemaCodec codec = new FieldTableSchemaCodec();
+
+    @Test
+    void roundTrip() throws IOException {
+        TableSchema expected = new SyntheticTableSchema("codec_table", COLUMN_COUNT);
+
+        assertSameFields(expected, codec.decode(codec.encode(expected)));
+    }
+
+    @Test
+    void roundTripThroughSnapshot() throws IOException {
+        TableSchema first = new SyntheticTableSchema("codec_table_0", COLUMN_COUNT);
+        TableSchema second = new SyntheticTableSchema("codec_table_1", COLUMN_COUNT + 1);
+        TableFingerprint fingerprint = new TableFingerprint("2026-01-01 00:00:00", COLUMN_COUNT, 42L);
+
+        Path directory = Files.createTempDirectory("codec");
+        Path path = directory.resolve("schema.snapshot");
+        try {
+            TableSchemaSnapshot.write(path, List.of(
+                    new TableSchemaSnapshot.Entry(first.getTableName(), fingerprint, first),
+                    new TableSchemaSnapshot.Entry(second.getTableName(), null, second)), codec);
+
+            List<TableSchemaSnapshot.Entry> entries = TableSchemaSnapshot.read(path, codec);
+            assertEquals(2, entries.size(), "entries");
+
+            assertEquals(first.getTableName(), entries.get(0).tableName(), "tableName");
+            assertEquals(fingerprint, entries.get(0).fingerprint(), "fingerprint");
+            assertSameFields(first, entries.get(0).tableSchema());
+
+            assertEquals(second.getTableName(), entries.get(1).tableName(), "tableName");
+            assertNull(entries.get(1).fingerprint(), "fingerprint");
+            assertSameFields(second, entries.get(1).tableSchema());
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void corruptedLengthIsRefused() throws IOException {
+        byte[] bytes = codec.encode(new SyntheticTableSchema("codec_table", COLUMN_COUNT));
+        ByteBuffer.wrap(bytes).putInt(1, Integer.MAX_VALUE);
+
+        assertThrows(StreamCorruptedException.class, () -> codec.decode(bytes), "a length beyond the bytes must be refused");
+    }
+
+    @Test
+    void flippedByteIsSkipped() throws IOException {
+        TableSchema first = new SyntheticTableSchema("codec_table_0", COLUMN_COUNT);
+        TableSchema second = new SyntheticTableSchema("codec_table_1", COLUMN_COUNT);
+
+        Path directory = Files.createTempDirectory("codec");
+        Path path = directory.resolve("schema.snapshot");
+        try {
+            TableSchemaSnapshot.write(path, List.of(
+                    new TableSchemaSnapshot.Entry(first.getTableName(), null, first),
+                    new TableSchemaSnapshot.Entry(second.getTableName(), null, second)), codec);
+
+            byte[] bytes = Files.readAllBytes(path);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int entryOffset = Integer.BYTES * 3 + buffer.getInt(Integer.BYTES * 2) + Integer.BYTES;
+            int entryLength = buffer.getInt(entryOffset);
+            bytes[entryOffset + Integer.BYTES + entryLength - 1] ^= 1;
+            Files.write(path, bytes);
+
+            List<TableSchemaSnapshot.Entry> entries = TableSchemaSnapshot.read(path, codec);
+            assertEquals(1, entries.size(), "the flipped entry must be skipped");
+            assertEquals(second.getTableName(), entries.getFirst().tableName(), "tableName");
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Assert The Getters Return The Same
+     *
+     * @param expected the {@link TableSchema} instance, encoded
+     * @param actual   the {@link TableSchema} instance, decoded
+     */
+    private static void assertSameFields(TableSchema expected, TableSchema actual) {
+        assertEquals(expected.getTableName(), actual.getTableName(), "tableName");
+        assertEquals(expected.getIdName(), actual.getIdName(), "idName");
+        assertEquals(expected.getColumnNames(), actual.getColumnNames(), "columnNames");
+        assertEquals(expected.getValueTypes(), actual.getValueTypes(), "valueTypes");
+        assertEquals(expected.getColumnsOnInsert(), actual.getColumnsOnInsert(), "columnsOnInsert");
+        assertEquals(expected.getColumnsOnUpdate(), actual.getColumnsOnUpdate(), "columnsOnUpdate");
+        assertEquals(expected.getJoinedColumnsOnSelect(), actual.getJoinedColumnsOnSelect(), "joinedColumnsOnSelect");
+        assertEquals(expected.getJoinedColumnsOnInsert(), actual.getJoinedColumnsOnInsert(), "joinedColumnsOnInsert");
+        assertEquals(expected.getJoinedValuesOnInsert(), actual.getJoinedValuesOnInsert(), "joinedValuesOnInsert");
+        assertEquals(expected.getDefaultValues().keySet(), actual.getDefaultValues().keySet(), "defaultValues");
+
+        expected.getDefaultValues().forEach((name, value) -> {
+            assertEquals(value.getLong(), actual.getDefaultValues().get(name).getLong(), "defaultValues.getLong, name: " + name);
+            assertEquals(value.getString(), actual.getDefaultValues().get(name).getString(), "defaultValues.getString, name: " + name);
+        });
+    }
+
+}
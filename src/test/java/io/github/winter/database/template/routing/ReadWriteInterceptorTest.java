@@ -0,0 +1,108 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.database.template.TableSchemaRegistry;
+import io.github.winter.database.template.Template;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link ReadWriteInterceptor}, Reads In A Spring Transaction Go To The Primary
+ *
+ * @author changebooks@qq.com
+ */
+class ReadWriteInterceptorTest {
+    /**
+     * Table Name, Of This Test Only
+     */
+    private static final String TABLE_NAME = "read_write_orders";
+
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 5;
+
+    private static SyntheticTableSchema tableSchema;
+
+    @BeforeAll
+    static void setUp() {
+        tableSchema = new SyntheticTableSchema(TABLE_NAME, COLUMN_COUNT);
+        TableSchemaRegistry.put(TABLE_NAME, tableSchema);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        TableSchemaRegistry.remove(TABLE_NAME);
+    }
+
+    @Test
+    void readsPrimaryInTransaction() {
+        FakeExecutor primary = fakeExecutor();
+        FakeExecutor replica = fakeExecutor();
+        Template template = template(primary, replica);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            template.selectCount(TABLE_NAME, null);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertEquals(1L, primary.getCallCount(), "a read in a transaction must reach the primary");
+        assertEquals(0L, replica.getCallCount(), "a read in a transaction must not reach the replica");
+
+        template.selectCount(TABLE_NAME, null);
+        assertEquals(1L, replica.getCallCount(), "a read outside a transaction must reach the replica");
+    }
+
+    @Test
+    void readsPrimaryInSynchronization() {
+        FakeExecutor primary = fakeExecutor();
+        FakeExecutor replica = fakeExecutor();
+        Template template = template(primary, replica);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            template.selectCount(TABLE_NAME, null);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1L, primary.getCallCount(), "a read in a synchronization must reach the primary");
+        assertEquals(0L, replica.getCallCount(), "a read in a synchronization must not reach the replica");
+    }
+
+    /**
+     * Template, Through A {@link ReadWriteInterceptor}
+     *
+     * @param primary the {@link FakeExecutor} instance, of the primary
+     * @param replica the {@link FakeExecutor} instance, of the replica
+     * @return the {@link Template} instance
+     */
+    private static Template template(FakeExecutor primary, FakeExecutor replica) {
+        ReadWriteInterceptor readWriteInterceptor = new ReadWriteInterceptor(primary.toExecutor(),
+                List.of(new Replica("replica", replica.toExecutor())));
+
+        Template template = new Template(primary.toExecutor(), Fixtures.sqlParser());
+        template.addInterceptor(readWriteInterceptor);
+        return template;
+    }
+
+    /**
+     * Fake Executor, One Row
+     *
+     * @return the {@link FakeExecutor} instance
+     */
+    private static FakeExecutor fakeExecutor() {
+        return new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.github.winter.database.template.routing;
+
+import io.github.winter.database.template.Template;
+import io.github.winter.database.template.TableSchemaRegistry;
+import io.github.winter.database.template.fixture.FakeExecutor;
+import io.github.winter.database.template.fixture.Fixtures;
+import io.github.winter.database.template.fixture.SyntheticTableSchema;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ShardTopology} With A {@link ReadWriteInterceptor} Per Shard, Reads And Writes Stay On The Shard
+ *
+ * @author changebooks@qq.com
+ */
+class ShardTopologyTest {
+    /**
+     * Table Name, Of This Test Only
+     */
+    private static final String TABLE_NAME = "topology_orders";
+
+    /**
+     * Columns
+     */
+    private static final int COLUMN_COUNT = 5;
+
+    private static SyntheticTableSchema tableSchema;
+
+    @BeforeAll
+    static void setUp() {
+        for (int i = 0; i < 2; i++) {
+            String tableName = TABLE_NAME + "_" + i;
+            tableSchema = new SyntheticTableSchema(tableName, COLUMN_COUNT);
+            TableSchemaRegistry.put(tableName, tableSchema);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        for (int i = 0; i < 2; i++) {
+            TableSchemaRegistry.remove(TABLE_NAME + "_" + i);
+        }
+    }
+
+    @Test
+    void routesWithinTheShard() {
+        FakeExecutor primary0 = fakeExecutor();
+        FakeExecutor replica0 = fakeExecutor();
+        FakeExecutor primary1 = fakeExecutor();
+        FakeExecutor replica1 = fakeExecutor();
+
+        ReadWriteInterceptor readWrite0 = new ReadWriteInterceptor(primary0.toExecutor(),
+                List.of(new Replica("replica0", replica0.toExecutor())));
+        ReadWriteInterceptor readWrite1 = new ReadWriteInterceptor(primary1.toExecutor(),
+                List.of(new Replica("replica1", replica1.toExecutor())));
+        readWrite1.setReadYourWritesWindow(Duration.ZERO);
+
+        ShardTopology shardTopology = new ShardTopology(List.of(
+                new ShardRange(0, 0, readWrite0), new ShardRange(1, 1, readWrite1)));
+
+        Template template = new Template(fakeExecutor().toExecutor(), Fixtures.sqlParser());
+        template.addInterceptor(shardTopology);
+
+        template.selectCount(TABLE_NAME, null, 1);
+        template.delete(TABLE_NAME, Fixtures.value(), null, 1);
+        template.selectCount(TABLE_NAME, null, 1);
+
+        assertEquals(0L, primary0.getCallCount() + replica0.getCallCount(), "shard 0 must not be called");
+        assertEquals(1L, primary1.getCallCount(), "the write must reach the primary of shard 1");
+        assertEquals(2L, replica1.getCallCount(), "the reads must reach the replica of shard 1");
+    }
+
+    @Test
+    void rejectsReadWriteNextToTopology() {
+        FakeExecutor primary = fakeExecutor();
+        ReadWriteInterceptor readWrite = new ReadWriteInterceptor(primary.toExecutor(), List.of());
+
+        Template template = new Template(primary.toExecutor(), Fixtures.sqlParser());
+        template.addInterceptor(new ShardTopology(List.of(new ShardRange(0, 1, readWrite))));
+
+        assertThrows(IllegalArgumentException.class, () -> template.addInterceptor(readWrite),
+                "a second routing interceptor must be rejected");
+    }
+
+    /**
+     * Fake Executor, One Row
+     *
+     * @return the {@link FakeExecutor} instance
+     */
+    private static FakeExecutor fakeExecutor() {
+        return new FakeExecutor(0, 0, tableSchema.getColumnNames(), 1);
+    }
+
+}
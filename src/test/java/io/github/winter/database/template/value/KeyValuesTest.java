@@ -0,0 +1,36 @@
+package io.github.winter.database.template.value;
+
+import io.github.winter.boot.tuple.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link KeyValues}, Keys Match As The Default Collation Compares Them
+ *
+ * @author changebooks@qq.com
+ */
+class KeyValuesTest {
+
+    @Test
+    void collatedKeyIgnoresCaseAndTrailingSpaces() {
+        assertEquals(KeyValues.collatedKeyOf(new Value("abc")), KeyValues.collatedKeyOf(new Value("ABC  ")), "case and trailing spaces");
+        assertNotEquals(KeyValues.collatedKeyOf(new Value("abc")), KeyValues.collatedKeyOf(new Value("  abc")), "leading spaces count");
+        assertNull(KeyValues.collatedKeyOf(null), "null key");
+    }
+
+    @Test
+    void keysOfAreCollated() {
+        List<Map<String, Value>> list = List.of(Map.of("code", new Value("Alpha ")), Map.of("code", new Value("BETA")));
+
+        Set<String> keys = KeyValues.keysOf(list, "code");
+        assertEquals(Set.of(KeyValues.collatedKeyOf(new Value("alpha")), KeyValues.collatedKeyOf(new Value("beta"))), keys, "keys");
+    }
+
+}